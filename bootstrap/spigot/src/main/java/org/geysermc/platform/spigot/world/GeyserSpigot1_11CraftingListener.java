@@ -82,13 +82,7 @@ public class GeyserSpigot1_11CraftingListener implements Listener {
 
     @EventHandler
     public void onPlayerJoin(PlayerJoinEvent event) {
-        GeyserSession session = null;
-        for (GeyserSession otherSession : connector.getPlayers()) {
-            if (otherSession.getName().equals(event.getPlayer().getName())) {
-                session = otherSession;
-                break;
-            }
-        }
+        GeyserSession session = connector.getSessionManager().getByName(event.getPlayer().getName());
         if (session == null) {
             return;
         }
@@ -126,7 +120,7 @@ public class GeyserSpigot1_11CraftingListener implements Listener {
                 // Add recipe to our internal cache
                 ShapedRecipeData data = new ShapedRecipeData(shapedRecipe.getShape()[0].length(), shapedRecipe.getShape().length,
                         "", ingredients, javaOutput);
-                session.getCraftingRecipes().put(netId,
+                session.addCraftingRecipe(netId,
                         new com.github.steveice10.mc.protocol.data.game.recipe.Recipe(RecipeType.CRAFTING_SHAPED, uuid.toString(), data));
                 // Add recipe for Bedrock
                 craftingDataPacket.getCraftingData().add(CraftingData.fromShaped(uuid.toString(),
@@ -146,7 +140,7 @@ public class GeyserSpigot1_11CraftingListener implements Listener {
                 UUID uuid = UUID.randomUUID();
                 // Add recipe to our internal cache
                 ShapelessRecipeData data = new ShapelessRecipeData("", ingredients, javaOutput);
-                session.getCraftingRecipes().put(netId,
+                session.addCraftingRecipe(netId,
                         new com.github.steveice10.mc.protocol.data.game.recipe.Recipe(RecipeType.CRAFTING_SHAPELESS, uuid.toString(), data));
                 // Add recipe for Bedrock
                 craftingDataPacket.getCraftingData().add(CraftingData.fromShapeless(uuid.toString(),
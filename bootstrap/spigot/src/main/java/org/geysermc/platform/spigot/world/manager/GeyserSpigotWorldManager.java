@@ -31,7 +31,6 @@ import com.github.steveice10.mc.protocol.data.game.chunk.Chunk;
 import com.nukkitx.math.vector.Vector3i;
 import com.nukkitx.nbt.NbtMap;
 import com.nukkitx.nbt.NbtMapBuilder;
-import com.nukkitx.nbt.NbtType;
 import it.unimi.dsi.fastutil.ints.Int2IntMap;
 import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
 import org.bukkit.Bukkit;
@@ -55,8 +54,6 @@ import org.geysermc.connector.utils.GameRule;
 import org.geysermc.connector.utils.LanguageUtils;
 
 import java.io.InputStream;
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * The base world manager to use when there is no supported NMS revision
@@ -211,22 +208,7 @@ public class GeyserSpigotWorldManager extends GeyserWorldManager {
                     .putByte("Count", (byte) itemStack.getAmount())
                     .putShort("Damage", (short) 0)
                     .putString("Name", "minecraft:writable_book");
-            List<NbtMap> pages = new ArrayList<>(bookMeta.getPageCount());
-            if (hasBookPages) {
-                for (String page : bookMeta.getPages()) {
-                    NbtMapBuilder pageBuilder = NbtMap.builder()
-                            .putString("photoname", "")
-                            .putString("text", page);
-                    pages.add(pageBuilder.build());
-                }
-            } else {
-                // Empty page
-                NbtMapBuilder pageBuilder = NbtMap.builder()
-                        .putString("photoname", "")
-                        .putString("text", "");
-                pages.add(pageBuilder.build());
-            }
-            bookTag.putCompound("tag", NbtMap.builder().putList("pages", NbtType.COMPOUND, pages).build());
+            bookTag.putCompound("tag", LecternInventoryTranslator.getBookTag(bookMeta.getPages()));
             lecternTag.putCompound("book", bookTag.build());
             NbtMap blockEntityTag = lecternTag.build();
             BlockEntityUtils.updateBlockEntity(session, blockEntityTag, Vector3i.from(x, y, z));
@@ -28,8 +28,10 @@ package org.geysermc.platform.velocity;
 import com.google.inject.Inject;
 import com.velocitypowered.api.command.CommandManager;
 import com.velocitypowered.api.event.Subscribe;
+import com.velocitypowered.api.event.proxy.ListenerBoundEvent;
 import com.velocitypowered.api.event.proxy.ProxyInitializeEvent;
 import com.velocitypowered.api.event.proxy.ProxyShutdownEvent;
+import com.velocitypowered.api.network.ListenerType;
 import com.velocitypowered.api.plugin.Plugin;
 import com.velocitypowered.api.proxy.ProxyServer;
 import lombok.Getter;
@@ -49,6 +51,7 @@ import org.slf4j.Logger;
 import java.io.File;
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.net.SocketAddress;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.UUID;
@@ -69,6 +72,7 @@ public class GeyserVelocityPlugin implements GeyserBootstrap {
     private GeyserVelocityConfiguration geyserConfig;
     private GeyserVelocityLogger geyserLogger;
     private IGeyserPingPassthrough geyserPingPassthrough;
+    private GeyserVelocityInjector geyserInjector;
 
     private GeyserConnector connector;
 
@@ -118,6 +122,9 @@ public class GeyserVelocityPlugin implements GeyserBootstrap {
 
         geyserConfig.loadFloodgate(this, proxyServer, configFolder.toFile());
 
+        // Initialized once the proxy listener is bound
+        this.geyserInjector = new GeyserVelocityInjector(proxyServer);
+
         this.connector = GeyserConnector.start(PlatformType.VELOCITY, this);
 
         this.geyserCommandManager = new GeyserVelocityCommandManager(connector);
@@ -131,7 +138,12 @@ public class GeyserVelocityPlugin implements GeyserBootstrap {
 
     @Override
     public void onDisable() {
-        connector.shutdown();
+        if (connector != null) {
+            connector.shutdown();
+        }
+        if (geyserInjector != null) {
+            geyserInjector.shutdown();
+        }
     }
 
     @Override
@@ -164,8 +176,21 @@ public class GeyserVelocityPlugin implements GeyserBootstrap {
         onDisable();
     }
 
+    @Subscribe
+    public void onProxyBound(ListenerBoundEvent event) {
+        if (event.getListenerType() == ListenerType.MINECRAFT && geyserInjector != null) {
+            // Once the listener is bound, Velocity won't replace its channel initializer anymore
+            geyserInjector.initializeLocalChannel(this);
+        }
+    }
+
     @Override
     public BootstrapDumpInfo getDumpInfo() {
         return new GeyserVelocityDumpInfo(proxyServer);
     }
+
+    @Override
+    public SocketAddress getSocketAddress() {
+        return geyserInjector == null ? null : geyserInjector.getServerSocketAddress();
+    }
 }
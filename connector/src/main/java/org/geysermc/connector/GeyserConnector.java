@@ -28,6 +28,7 @@ package org.geysermc.connector;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Throwables;
 import com.nukkitx.network.raknet.RakNetConstants;
 import com.nukkitx.network.util.EventLoops;
 import com.nukkitx.protocol.bedrock.BedrockServer;
@@ -42,6 +43,8 @@ import org.geysermc.connector.metrics.Metrics;
 import org.geysermc.connector.network.ConnectorServerEventHandler;
 import org.geysermc.connector.network.remote.RemoteServer;
 import org.geysermc.connector.network.session.GeyserSession;
+import org.geysermc.connector.network.session.SessionManager;
+import org.geysermc.connector.network.session.SessionTickManager;
 import org.geysermc.connector.network.translators.BiomeTranslator;
 import org.geysermc.connector.network.translators.EntityIdentifierRegistry;
 import org.geysermc.connector.network.translators.PacketTranslatorRegistry;
@@ -57,6 +60,7 @@ import org.geysermc.connector.network.translators.world.WorldManager;
 import org.geysermc.connector.network.translators.world.block.BlockTranslator;
 import org.geysermc.connector.network.translators.world.block.entity.BlockEntityTranslator;
 import org.geysermc.connector.network.translators.world.block.entity.SkullBlockEntityTranslator;
+import org.geysermc.connector.skin.SkinManager;
 import org.geysermc.connector.utils.*;
 
 import javax.naming.directory.Attribute;
@@ -66,10 +70,8 @@ import java.net.InetSocketAddress;
 import java.net.UnknownHostException;
 import java.text.DecimalFormat;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Getter
 public class GeyserConnector {
@@ -93,7 +95,7 @@ public class GeyserConnector {
 
     private static final String IP_REGEX = "\\b\\d{1,3}\\.\\d{1,3}\\.\\d{1,3}\\.\\d{1,3}\\b";
 
-    private final List<GeyserSession> players = new ArrayList<>();
+    private final SessionManager sessionManager = new SessionManager();
 
     private static GeyserConnector instance;
 
@@ -104,6 +106,11 @@ public class GeyserConnector {
     private boolean shuttingDown = false;
 
     private final ScheduledExecutorService generalThreadPool;
+    private final SessionTickManager sessionTickManager;
+    /**
+     * Runs the cryptography of Bedrock logins so it does not stall the network threads
+     */
+    private final ThreadPoolExecutor loginThreadPool;
 
     private BedrockServer bedrockServer;
     private final PlatformType platformType;
@@ -130,27 +137,52 @@ public class GeyserConnector {
         logger.info("******************************************");
 
         this.generalThreadPool = Executors.newScheduledThreadPool(config.getGeneralThreadPool());
+        this.sessionTickManager = new SessionTickManager(this, generalThreadPool);
+        this.sessionTickManager.start();
+
+        int loginThreads = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger loginThreadId = new AtomicInteger();
+        // Bounded, so a flood of logins is turned away instead of piling up in memory
+        this.loginThreadPool = new ThreadPoolExecutor(loginThreads, loginThreads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(256), runnable -> {
+            Thread thread = new Thread(runnable, "Geyser Login Thread #" + loginThreadId.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.loginThreadPool.allowCoreThreadTimeOut(true);
 
         logger.setDebug(config.isDebugMode());
 
-        PacketTranslatorRegistry.init();
-
         /* Initialize translators and registries */
-        BiomeTranslator.init();
-        BlockTranslator.init();
-        BlockEntityTranslator.init();
-        EffectRegistry.init();
-        EntityIdentifierRegistry.init();
-        ItemRegistry.init();
-        ItemTranslator.init();
-        CollisionTranslator.init();
-        LocaleUtils.init();
-        PotionMixRegistry.init();
-        RecipeRegistry.init();
-        SoundRegistry.init();
-        SoundHandlerRegistry.init();
-
-        ResourcePack.loadPacks();
+        // Most registries only read their own mappings, so they are loaded in parallel. Those that depend on
+        // another registry wait for it - registries never depend on each other in a cycle, so this can't deadlock.
+        long registryStartTime = System.currentTimeMillis();
+        CompletableFuture<Void> blockTranslator = runAsync(BlockTranslator::init);
+        CompletableFuture<Void> itemRegistry = runAsync(ItemRegistry::init);
+        CompletableFuture<Void> itemTranslator = CompletableFuture.allOf(blockTranslator, itemRegistry)
+                .thenRunAsync(ItemTranslator::init, generalThreadPool);
+        CompletableFuture<Void> registries = CompletableFuture.allOf(
+                runAsync(PacketTranslatorRegistry::init),
+                runAsync(BiomeTranslator::init),
+                blockTranslator.thenRunAsync(BlockEntityTranslator::init, generalThreadPool),
+                runAsync(EffectRegistry::init),
+                runAsync(EntityIdentifierRegistry::init),
+                runAsync(EntityUtils::init),
+                blockTranslator.thenRunAsync(CollisionTranslator::init, generalThreadPool),
+                runAsync(LocaleUtils::init),
+                itemRegistry.thenRunAsync(PotionMixRegistry::init, generalThreadPool),
+                itemTranslator.thenRunAsync(RecipeRegistry::init, generalThreadPool),
+                runAsync(SoundRegistry::init),
+                CompletableFuture.allOf(blockTranslator, itemRegistry).thenRunAsync(SoundHandlerRegistry::init, generalThreadPool),
+                runAsync(ResourcePack::loadPacks)
+        );
+        try {
+            registries.join();
+        } catch (CompletionException e) {
+            // Fail the same way as if the registries were loaded on this thread
+            Throwables.throwIfUnchecked(e.getCause());
+            throw e;
+        }
+        logger.debug("Loaded registries in " + (System.currentTimeMillis() - registryStartTime) + "ms");
 
         if (platformType != PlatformType.STANDALONE && config.getRemote().getAddress().equals("auto")) {
             // Set the remote address to localhost since that is where we are always connecting
@@ -192,6 +224,7 @@ public class GeyserConnector {
         CooldownUtils.setShowCooldown(config.isShowCooldown());
         DimensionUtils.changeBedrockNetherId(config.isAboveBedrockNetherBuilding()); // Apply End dimension ID workaround to Nether
         SkullBlockEntityTranslator.ALLOW_CUSTOM_SKULLS = config.isAllowCustomSkulls();
+        SkinManager.LAZY_SKINS = config.isLazySkins();
 
         // https://github.com/GeyserMC/Geyser/issues/957
         RakNetConstants.MAXIMUM_MTU_SIZE = (short) config.getMtu();
@@ -216,7 +249,7 @@ public class GeyserConnector {
 
         if (config.getMetrics().isEnabled()) {
             metrics = new Metrics(this, "GeyserMC", config.getMetrics().getUniqueId(), false, java.util.logging.Logger.getLogger(""));
-            metrics.addCustomChart(new Metrics.SingleLineChart("players", players::size));
+            metrics.addCustomChart(new Metrics.SingleLineChart("players", sessionManager::size));
             // Prevent unwanted words best we can
             metrics.addCustomChart(new Metrics.SimplePie("authMode", () -> AuthType.getByName(config.getRemote().getAuthType()).toString().toLowerCase()));
             metrics.addCustomChart(new Metrics.SimplePie("platform", platformType::getPlatformName));
@@ -224,7 +257,7 @@ public class GeyserConnector {
             metrics.addCustomChart(new Metrics.SimplePie("version", () -> GeyserConnector.VERSION));
             metrics.addCustomChart(new Metrics.AdvancedPie("playerPlatform", () -> {
                 Map<String, Integer> valueMap = new HashMap<>();
-                for (GeyserSession session : players) {
+                for (GeyserSession session : sessionManager.getSessions()) {
                     if (session == null) continue;
                     if (session.getClientData() == null) continue;
                     String os = session.getClientData().getDeviceOS().toString();
@@ -238,7 +271,7 @@ public class GeyserConnector {
             }));
             metrics.addCustomChart(new Metrics.AdvancedPie("playerVersion", () -> {
                 Map<String, Integer> valueMap = new HashMap<>();
-                for (GeyserSession session : players) {
+                for (GeyserSession session : sessionManager.getSessions()) {
                     if (session == null) continue;
                     if (session.getClientData() == null) continue;
                     String version = session.getClientData().getGameVersion();
@@ -295,12 +328,10 @@ public class GeyserConnector {
         bootstrap.getGeyserLogger().info(LanguageUtils.getLocaleStringLog("geyser.core.shutdown"));
         shuttingDown = true;
 
-        if (players.size() >= 1) {
-            bootstrap.getGeyserLogger().info(LanguageUtils.getLocaleStringLog("geyser.core.shutdown.kick.log", players.size()));
+        if (sessionManager.size() >= 1) {
+            bootstrap.getGeyserLogger().info(LanguageUtils.getLocaleStringLog("geyser.core.shutdown.kick.log", sessionManager.size()));
 
-            // Make a copy to prevent ConcurrentModificationException
-            final List<GeyserSession> tmpPlayers = new ArrayList<>(players);
-            for (GeyserSession playerSession : tmpPlayers) {
+            for (GeyserSession playerSession : sessionManager.getSessions()) {
                 playerSession.disconnect(LanguageUtils.getPlayerLocaleString("geyser.core.shutdown.kick.message", playerSession.getLocale()));
             }
 
@@ -310,7 +341,7 @@ public class GeyserConnector {
                     // Simulate a long-running Job
                     try {
                         while (true) {
-                            if (players.size() == 0) {
+                            if (sessionManager.size() == 0) {
                                 return;
                             }
 
@@ -331,9 +362,11 @@ public class GeyserConnector {
             }
         }
 
+        sessionTickManager.stop();
         generalThreadPool.shutdown();
+        loginThreadPool.shutdown();
         bedrockServer.close();
-        players.clear();
+        sessionManager.clear();
         remoteServer = null;
         authType = null;
         this.getCommandManager().getCommands().clear();
@@ -342,11 +375,18 @@ public class GeyserConnector {
     }
 
     public void addPlayer(GeyserSession player) {
-        players.add(player);
+        sessionManager.addSession(player);
     }
 
     public void removePlayer(GeyserSession player) {
-        players.remove(player);
+        sessionManager.removeSession(player);
+    }
+
+    /**
+     * @return every connected session. Safe to iterate while sessions connect and disconnect
+     */
+    public Collection<GeyserSession> getPlayers() {
+        return sessionManager.getSessions();
     }
 
     /**
@@ -356,13 +396,7 @@ public class GeyserConnector {
      * @return the player or <code>null</code> if there is no player online with this UUID
      */
     public GeyserSession getPlayerByUuid(UUID uuid) {
-        for (GeyserSession session : players) {
-            if (session.getPlayerEntity().getUuid().equals(uuid)) {
-                return session;
-            }
-        }
-
-        return null;
+        return sessionManager.getByJavaUuid(uuid);
     }
 
     /**
@@ -372,13 +406,11 @@ public class GeyserConnector {
      * @return the player or <code>null</code> if there is no player online with this xuid
      */
     public GeyserSession getPlayerByXuid(String xuid) {
-        for (GeyserSession session : players) {
-            if (session.getAuthData() != null && session.getAuthData().getXboxUUID().equals(xuid)) {
-                return session;
-            }
-        }
+        return sessionManager.getByXuid(xuid);
+    }
 
-        return null;
+    private CompletableFuture<Void> runAsync(Runnable runnable) {
+        return CompletableFuture.runAsync(runnable, generalThreadPool);
     }
 
     public static GeyserConnector start(PlatformType platformType, GeyserBootstrap bootstrap) {
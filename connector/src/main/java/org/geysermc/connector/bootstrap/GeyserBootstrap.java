@@ -34,6 +34,7 @@ import org.geysermc.connector.network.translators.world.GeyserWorldManager;
 import org.geysermc.connector.network.translators.world.WorldManager;
 
 import javax.annotation.Nullable;
+import java.net.SocketAddress;
 import java.nio.file.Path;
 
 public interface GeyserBootstrap {
@@ -114,4 +115,15 @@ public interface GeyserBootstrap {
     default String getMinecraftServerVersion() {
         return null;
     }
+
+    /**
+     * Returns the in-memory address of the Java server or proxy that sessions should connect to, if the platform
+     * supports connecting without a socket.
+     *
+     * @return the local address to connect to, or <code>null</code> to connect over the network
+     */
+    @Nullable
+    default SocketAddress getSocketAddress() {
+        return null;
+    }
 }
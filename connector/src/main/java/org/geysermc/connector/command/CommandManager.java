@@ -54,6 +54,7 @@ public abstract class CommandManager {
         registerCommand(new SettingsCommand(connector, "settings", "geyser.commands.settings.desc", "geyser.command.settings"));
         registerCommand(new StatisticsCommand(connector, "statistics", "geyser.commands.statistics.desc", "geyser.command.statistics"));
         registerCommand(new AdvancementsCommand(connector, "advancements", "geyser.commands.advancements.desc", "geyser.command.advancements"));
+        registerCommand(new ProfilerCommand(connector, "profiler", "Records how long packets take to translate", "geyser.command.profiler"));
     }
 
     public void registerCommand(GeyserCommand command) {
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2019-2021 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.connector.command.defaults;
+
+import org.geysermc.connector.GeyserConnector;
+import org.geysermc.connector.command.CommandSender;
+import org.geysermc.connector.command.GeyserCommand;
+import org.geysermc.connector.common.ChatColor;
+import org.geysermc.connector.network.session.GeyserSession;
+import org.geysermc.connector.network.translators.PacketProfiler;
+
+import java.util.Arrays;
+import java.util.List;
+
+// TODO: move the description and replies to geyser.commands.profiler.* keys once the languages repository has them
+public class ProfilerCommand extends GeyserCommand {
+
+    /**
+     * How many packet types to show at once
+     */
+    private static final int SHOWN_PACKETS = 10;
+
+    private final GeyserConnector connector;
+
+    public ProfilerCommand(GeyserConnector connector, String name, String description, String permission) {
+        super(name, description, permission);
+
+        this.connector = connector;
+    }
+
+    @Override
+    public void execute(GeyserSession session, CommandSender sender, String[] args) {
+        String subCommand = args.length >= 1 ? args[0].toLowerCase() : "show";
+        switch (subCommand) {
+            case "start":
+                PacketProfiler.setEnabled(true);
+                sender.sendMessage(ChatColor.GREEN + "Packet profiling started.");
+                break;
+            case "stop":
+                PacketProfiler.setEnabled(false);
+                sender.sendMessage(ChatColor.YELLOW + "Packet profiling stopped.");
+                break;
+            case "reset":
+                PacketProfiler.reset(connector.getPlayers());
+                sender.sendMessage(ChatColor.YELLOW + "Packet profiling data cleared.");
+                break;
+            case "show":
+                PacketProfiler.PacketStatistics statistics = PacketProfiler.getGlobalStatistics();
+                String title = "all players";
+                if (args.length >= 2) {
+                    GeyserSession player = connector.getSessionManager().getByName(args[1]);
+                    if (player == null) {
+                        sender.sendMessage(ChatColor.RED + "No Bedrock player named " + args[1] + " is online.");
+                        return;
+                    }
+                    statistics = player.getPacketStatistics();
+                    title = player.getName();
+                }
+                showStatistics(sender, statistics, title);
+                break;
+            default:
+                sender.sendMessage(ChatColor.RED + "Usage: /geyser " + name + " <" + String.join("|", getSubCommands()) + "> [player]");
+                break;
+        }
+    }
+
+    private void showStatistics(CommandSender sender, PacketProfiler.PacketStatistics statistics, String title) {
+        List<PacketProfiler.PacketTimings> timings = statistics.getMostExpensive(SHOWN_PACKETS);
+        if (timings.isEmpty()) {
+            sender.sendMessage(ChatColor.YELLOW + "No packets have been profiled" + (PacketProfiler.isEnabled() ? " yet." : " - start the profiler first."));
+            return;
+        }
+
+        sender.sendMessage(ChatColor.BOLD + "Most expensive packets for " + title + ":");
+        for (PacketProfiler.PacketTimings packetTimings : timings) {
+            sender.sendMessage(String.format("%s%s%s: %d packets, %.1f ms total, %.1f µs avg, %.0f µs p99, %d sent to Bedrock",
+                    ChatColor.AQUA, packetTimings.getPacketClass().getSimpleName(), ChatColor.RESET,
+                    packetTimings.getCount(), packetTimings.getTotalMillis(), packetTimings.getAverageMicros(),
+                    packetTimings.getPercentileMicros(99), packetTimings.getUpstreamPackets()));
+        }
+    }
+
+    @Override
+    public List<String> getSubCommands() {
+        return Arrays.asList("start", "stop", "reset", "show");
+    }
+}
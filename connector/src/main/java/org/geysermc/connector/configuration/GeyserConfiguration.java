@@ -28,6 +28,7 @@ package org.geysermc.connector.configuration;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.geysermc.connector.GeyserLogger;
 import org.geysermc.connector.network.CIDRMatcher;
+import org.geysermc.connector.network.CIDRTrie;
 import org.geysermc.connector.utils.LanguageUtils;
 
 import java.nio.file.Path;
@@ -61,6 +62,10 @@ public interface GeyserConfiguration {
 
     int getPingPassthroughInterval();
 
+    List<String> getPingPassthroughServers();
+
+    int getPingRateLimit();
+
     boolean isForwardPlayerPing();
 
     int getMaxPlayers();
@@ -69,10 +74,20 @@ public interface GeyserConfiguration {
 
     int getGeneralThreadPool();
 
+    int getUpstreamBatchSize();
+
+    int getUpstreamBatchDelay();
+
     boolean isAllowThirdPartyCapes();
 
     boolean isAllowThirdPartyEars();
 
+    boolean isLazySkins();
+
+    int getSkinBandwidthLimit();
+
+    boolean isClientSideProjectiles();
+
     boolean isShowCooldown();
 
     boolean isShowCoordinates();
@@ -95,6 +110,10 @@ public interface GeyserConfiguration {
 
     boolean isAllowCustomSkulls();
 
+    int getCustomSkullRenderDistance();
+
+    int getMaxVisibleCustomSkulls();
+
     IMetricsInfo getMetrics();
 
     interface IBedrockConfiguration {
@@ -119,6 +138,11 @@ public interface GeyserConfiguration {
          * @return Unmodifiable list of {@link CIDRMatcher}s from {@link #getProxyProtocolWhitelistedIPs()}
          */
         List<CIDRMatcher> getWhitelistedIPsMatchers();
+
+        /**
+         * @return {@link CIDRTrie} of all ranges from {@link #getProxyProtocolWhitelistedIPs()}
+         */
+        CIDRTrie getWhitelistedIPsTrie();
     }
 
     interface IRemoteConfiguration {
@@ -166,6 +190,8 @@ public interface GeyserConfiguration {
 
     boolean isUseAdapters();
 
+    boolean isUseDirectConnection();
+
     int getConfigVersion();
 
     static void checkGeyserConfiguration(GeyserConfiguration geyserConfig, GeyserLogger geyserLogger) {
@@ -33,6 +33,7 @@ import lombok.Setter;
 import org.geysermc.connector.GeyserConnector;
 import org.geysermc.connector.common.serializer.AsteriskSerializer;
 import org.geysermc.connector.network.CIDRMatcher;
+import org.geysermc.connector.network.CIDRTrie;
 
 import java.nio.file.Path;
 import java.util.Collections;
@@ -79,6 +80,12 @@ public abstract class GeyserJacksonConfiguration implements GeyserConfiguration
     @JsonProperty("ping-passthrough-interval")
     private int pingPassthroughInterval = 3;
 
+    @JsonProperty("ping-passthrough-servers")
+    private List<String> pingPassthroughServers = Collections.emptyList();
+
+    @JsonProperty("ping-rate-limit")
+    private int pingRateLimit = 10;
+
     @JsonProperty("forward-player-ping")
     private boolean forwardPlayerPing = false;
 
@@ -91,6 +98,12 @@ public abstract class GeyserJacksonConfiguration implements GeyserConfiguration
     @JsonProperty("general-thread-pool")
     private int generalThreadPool = 32;
 
+    @JsonProperty("upstream-batch-size")
+    private int upstreamBatchSize = 64;
+
+    @JsonProperty("upstream-batch-delay")
+    private int upstreamBatchDelay = 25;
+
     @JsonProperty("allow-third-party-capes")
     private boolean allowThirdPartyCapes = true;
 
@@ -103,6 +116,15 @@ public abstract class GeyserJacksonConfiguration implements GeyserConfiguration
     @JsonProperty("allow-third-party-ears")
     private boolean allowThirdPartyEars = false;
 
+    @JsonProperty("lazy-skins")
+    private boolean lazySkins = false;
+
+    @JsonProperty("skin-bandwidth-limit")
+    private int skinBandwidthLimit = 512;
+
+    @JsonProperty("client-side-projectiles")
+    private boolean clientSideProjectiles = false;
+
     @JsonProperty("default-locale")
     private String defaultLocale = null; // is null by default so system language takes priority
 
@@ -115,6 +137,12 @@ public abstract class GeyserJacksonConfiguration implements GeyserConfiguration
     @JsonProperty("allow-custom-skulls")
     private boolean allowCustomSkulls = true;
 
+    @JsonProperty("custom-skull-render-distance")
+    private int customSkullRenderDistance = 32;
+
+    @JsonProperty("max-visible-custom-skulls")
+    private int maxVisibleCustomSkulls = 128;
+
     @JsonProperty("add-non-bedrock-items")
     private boolean addNonBedrockItems = true;
 
@@ -169,6 +197,23 @@ public abstract class GeyserJacksonConfiguration implements GeyserConfiguration
             }
             return Collections.unmodifiableList(matchers);
         }
+
+        @JsonIgnore
+        private volatile CIDRTrie whitelistedIPsTrie = null;
+
+        @Override
+        public CIDRTrie getWhitelistedIPsTrie() {
+            CIDRTrie trie = this.whitelistedIPsTrie;
+            if (trie == null) {
+                synchronized (this) {
+                    trie = this.whitelistedIPsTrie;
+                    if (trie == null) {
+                        this.whitelistedIPsTrie = trie = new CIDRTrie(proxyProtocolWhitelistedIPs);
+                    }
+                }
+            }
+            return trie;
+        }
     }
 
     @Getter
@@ -226,6 +271,9 @@ public abstract class GeyserJacksonConfiguration implements GeyserConfiguration
     @JsonProperty("use-adapters")
     private boolean useAdapters = true;
 
+    @JsonProperty("use-direct-connection")
+    private boolean useDirectConnection = false;
+
     @JsonProperty("config-version")
     private int configVersion = 0;
 }
@@ -27,6 +27,7 @@ package org.geysermc.connector.dump;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.github.steveice10.mc.protocol.MinecraftConstants;
+import com.google.common.cache.CacheStats;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import lombok.Getter;
@@ -34,9 +35,17 @@ import org.geysermc.connector.GeyserConnector;
 import org.geysermc.connector.common.serializer.AsteriskSerializer;
 import org.geysermc.connector.configuration.GeyserConfiguration;
 import org.geysermc.connector.network.BedrockProtocol;
+import org.geysermc.connector.network.netty.DecompressionTimer;
+import org.geysermc.connector.network.netty.GeyserTcpClientSession;
 import org.geysermc.connector.network.session.GeyserSession;
+import org.geysermc.connector.network.session.SessionTickManager;
+import org.geysermc.connector.network.session.UpstreamBatchStatistics;
+import org.geysermc.connector.network.translators.PacketProfiler;
+import org.geysermc.connector.network.translators.java.JavaDeclareCommandsTranslator;
 import org.geysermc.connector.utils.DockerCheck;
 import org.geysermc.connector.utils.FileUtils;
+import org.geysermc.connector.utils.LatencyRecorder;
+import org.geysermc.connector.utils.LoginEncryptionUtils;
 import org.geysermc.floodgate.util.DeviceOS;
 
 import java.io.IOException;
@@ -44,6 +53,10 @@ import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 @Getter
@@ -57,6 +70,12 @@ public class DumpInfo {
     private final GeyserConfiguration config;
     private Object2IntMap<DeviceOS> userPlatforms;
     private RamInfo ramInfo;
+    private final LoginInfo loginInfo;
+    private final CacheInfo commandTreeCache;
+    private final DecompressionInfo downstreamDecompression;
+    private final PacketProfileInfo packetProfile;
+    private final UpstreamBatchInfo upstreamBatches;
+    private final TickInfo sessionTicks;
     private final BootstrapDumpInfo bootstrapInfo;
 
     public DumpInfo() {
@@ -71,6 +90,18 @@ public class DumpInfo {
 
         this.ramInfo = new DumpInfo.RamInfo();
 
+        this.loginInfo = new DumpInfo.LoginInfo();
+
+        this.commandTreeCache = new DumpInfo.CacheInfo(JavaDeclareCommandsTranslator.getCacheStats());
+
+        this.downstreamDecompression = new DumpInfo.DecompressionInfo();
+
+        this.packetProfile = new DumpInfo.PacketProfileInfo();
+
+        this.upstreamBatches = new DumpInfo.UpstreamBatchInfo();
+
+        this.sessionTicks = new DumpInfo.TickInfo(GeyserConnector.getInstance().getSessionTickManager());
+
         this.userPlatforms = new Object2IntOpenHashMap();
         for (GeyserSession session : GeyserConnector.getInstance().getPlayers()) {
             DeviceOS device = session.getClientData().getDeviceOS();
@@ -163,4 +194,160 @@ public class DumpInfo {
             this.max = Runtime.getRuntime().maxMemory() / MEGABYTE;
         }
     }
+
+    /**
+     * Login latencies in milliseconds, from receiving the login packet until the encryption handshake is sent
+     */
+    @Getter
+    public static class LoginInfo {
+
+        private final long logins;
+        private final double p50;
+        private final double p95;
+        private final double p99;
+
+        LoginInfo() {
+            LatencyRecorder latency = LoginEncryptionUtils.getLoginLatency();
+            this.logins = latency.getCount();
+            this.p50 = latency.getPercentile(50);
+            this.p95 = latency.getPercentile(95);
+            this.p99 = latency.getPercentile(99);
+        }
+    }
+
+    @Getter
+    public static class CacheInfo {
+
+        private final long hits;
+        private final long misses;
+        private final double hitRate;
+
+        CacheInfo(CacheStats stats) {
+            this.hits = stats.hitCount();
+            this.misses = stats.missCount();
+            this.hitRate = stats.hitRate();
+        }
+    }
+
+    /**
+     * Time spent decompressing packets from the Java server, per session
+     */
+    @Getter
+    public static class DecompressionInfo {
+
+        private long packets;
+        private double totalMillis;
+        private final List<SessionDecompressionInfo> sessions = new ArrayList<>();
+
+        DecompressionInfo() {
+            for (GeyserSession session : GeyserConnector.getInstance().getPlayers()) {
+                if (session.getDownstream() == null || !(session.getDownstream().getSession() instanceof GeyserTcpClientSession)) {
+                    continue;
+                }
+                DecompressionTimer timer = ((GeyserTcpClientSession) session.getDownstream().getSession()).getDecompressionTimer();
+                sessions.add(new SessionDecompressionInfo(timer.getPackets(), timer.getTotalMillis()));
+                this.packets += timer.getPackets();
+                this.totalMillis += timer.getTotalMillis();
+            }
+        }
+    }
+
+    @Getter
+    public static class SessionDecompressionInfo {
+
+        private final long packets;
+        private final double totalMillis;
+
+        SessionDecompressionInfo(long packets, double totalMillis) {
+            this.packets = packets;
+            this.totalMillis = totalMillis;
+        }
+    }
+
+    /**
+     * Batches of packets sent to Bedrock players, across all sessions
+     */
+    @Getter
+    public static class UpstreamBatchInfo {
+
+        private final long batches;
+        private final double packetsPerBatch;
+        private final double bytesPerBatch;
+        private final double compressionRatio;
+
+        UpstreamBatchInfo() {
+            this.batches = UpstreamBatchStatistics.getBatches();
+            this.packetsPerBatch = UpstreamBatchStatistics.getAveragePacketsPerBatch();
+            this.bytesPerBatch = UpstreamBatchStatistics.getAverageBytesPerBatch();
+            this.compressionRatio = UpstreamBatchStatistics.getCompressionRatio();
+        }
+    }
+
+    /**
+     * Time spent ticking sessions since startup, across all sessions
+     */
+    @Getter
+    public static class TickInfo {
+
+        private final long skippedTicks;
+        private final Map<SessionTickManager.TickPhase, TickPhaseInfo> phases = new EnumMap<>(SessionTickManager.TickPhase.class);
+
+        TickInfo(SessionTickManager tickManager) {
+            this.skippedTicks = tickManager.getSkippedTicks().sum();
+            for (SessionTickManager.TickPhase phase : SessionTickManager.TickPhase.values()) {
+                phases.put(phase, new TickPhaseInfo(tickManager.getTimings(phase)));
+            }
+        }
+    }
+
+    @Getter
+    public static class TickPhaseInfo {
+
+        private final long count;
+        private final double totalMillis;
+        private final double averageMicros;
+
+        TickPhaseInfo(SessionTickManager.PhaseTimings timings) {
+            this.count = timings.getCount();
+            this.totalMillis = timings.getTotalMillis();
+            this.averageMicros = timings.getAverageMicros();
+        }
+    }
+
+    /**
+     * The most expensive packets recorded by the packet profiler, across all sessions
+     */
+    @Getter
+    public static class PacketProfileInfo {
+
+        private final boolean enabled;
+        private final List<PacketTimingInfo> packets = new ArrayList<>();
+
+        PacketProfileInfo() {
+            this.enabled = PacketProfiler.isEnabled();
+            for (PacketProfiler.PacketTimings timings : PacketProfiler.getGlobalStatistics().getMostExpensive(20)) {
+                packets.add(new PacketTimingInfo(timings));
+            }
+        }
+    }
+
+    @Getter
+    public static class PacketTimingInfo {
+
+        private final String packet;
+        private final long count;
+        private final double totalMillis;
+        private final double averageMicros;
+        private final double p99Micros;
+        private final long upstreamPackets;
+
+        PacketTimingInfo(PacketProfiler.PacketTimings timings) {
+            this.packet = timings.getPacketClass().getSimpleName();
+            this.count = timings.getCount();
+            this.totalMillis = timings.getTotalMillis();
+            this.averageMicros = timings.getAverageMicros();
+            this.p99Micros = timings.getPercentileMicros(99);
+            this.upstreamPackets = timings.getUpstreamPackets();
+        }
+    }
 }
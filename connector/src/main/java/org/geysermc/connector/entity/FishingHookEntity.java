@@ -148,6 +148,12 @@ public class FishingHookEntity extends ThrowableEntity {
         }
     }
 
+    @Override
+    protected boolean canBeClientSimulated() {
+        // The hook collides with blocks and bobs in water, which the Bedrock client does not know about
+        return false;
+    }
+
     @Override
     public void tick(GeyserSession session) {
         if (hooked || !isInAir(session) && !isInWater(session) || isOnGround()) {
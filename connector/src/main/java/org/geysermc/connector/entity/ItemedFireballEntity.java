@@ -68,6 +68,12 @@ public class ItemedFireballEntity extends ThrowableEntity {
         this.motion = lastMotion;
     }
 
+    @Override
+    protected boolean canBeClientSimulated() {
+        // Fireballs accelerate, which the Bedrock client does not know about
+        return false;
+    }
+
     @Override
     public void tick(GeyserSession session) {
         moveAbsoluteImmediate(session, tickMovement(session, position), rotation, false, false);
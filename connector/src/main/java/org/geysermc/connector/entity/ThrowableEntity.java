@@ -30,6 +30,7 @@ import com.nukkitx.protocol.bedrock.data.LevelEventType;
 import com.nukkitx.protocol.bedrock.data.entity.EntityFlag;
 import com.nukkitx.protocol.bedrock.packet.LevelEventPacket;
 import com.nukkitx.protocol.bedrock.packet.MoveEntityDeltaPacket;
+import com.nukkitx.protocol.bedrock.packet.SetEntityMotionPacket;
 import org.geysermc.connector.entity.type.EntityType;
 import org.geysermc.connector.network.session.GeyserSession;
 import org.geysermc.connector.network.translators.world.block.BlockStateValues;
@@ -38,14 +39,77 @@ import org.geysermc.connector.network.translators.world.block.BlockStateValues;
  * Used as a class for any object-like entity that moves as a projectile
  */
 public class ThrowableEntity extends Entity implements Tickable {
+    /**
+     * How far, squared, the position predicted for the Bedrock client may stray from the Java position before it is corrected
+     */
+    private static final float CORRECTION_DISTANCE_SQUARED = 1f;
+    /**
+     * The most ticks to predict ahead, in case no position has been received from the Java server for a long time
+     */
+    private static final int MAX_PREDICTED_TICKS = 200;
 
     protected Vector3f lastJavaPosition;
 
+    /**
+     * If true, the Bedrock client moves this entity itself and Geyser only sends corrections.
+     * See {@link org.geysermc.connector.configuration.GeyserConfiguration#isClientSideProjectiles()}.
+     */
+    protected boolean clientSimulated;
+    /**
+     * The last position and motion sent to the Bedrock client while it moves this entity itself, and when they were sent
+     */
+    private Vector3f syncedPosition;
+    private Vector3f syncedMotion;
+    private long syncedTime;
+
     public ThrowableEntity(long entityId, long geyserId, EntityType entityType, Vector3f position, Vector3f motion, Vector3f rotation) {
         super(entityId, geyserId, entityType, position, motion, rotation);
         this.lastJavaPosition = position;
     }
 
+    @Override
+    public void spawnEntity(GeyserSession session) {
+        clientSimulated = session.getConnector().getConfig().isClientSideProjectiles() && canBeClientSimulated();
+        super.spawnEntity(session);
+
+        if (clientSimulated) {
+            // Not every projectile picks up the motion from the add entity packet
+            SetEntityMotionPacket motionPacket = new SetEntityMotionPacket();
+            motionPacket.setRuntimeEntityId(geyserId);
+            motionPacket.setMotion(motion);
+            session.sendUpstreamPacket(motionPacket);
+            markSynced();
+        }
+    }
+
+    /**
+     * @return true if the Bedrock client can move this entity by itself, given its initial motion
+     */
+    protected boolean canBeClientSimulated() {
+        // Shulker bullets home in on their target, which the Bedrock client does not know about
+        return entityType != EntityType.SHULKER_BULLET;
+    }
+
+    @Override
+    public boolean shouldTick() {
+        return !clientSimulated;
+    }
+
+    @Override
+    public void setMotion(Vector3f motion) {
+        super.setMotion(motion);
+        if (clientSimulated) {
+            // The new motion is sent to the Bedrock client along with this
+            markSynced();
+        }
+    }
+
+    private void markSynced() {
+        syncedPosition = position;
+        syncedMotion = motion;
+        syncedTime = System.currentTimeMillis();
+    }
+
     /**
      * Updates the position for the Bedrock client.
      *
@@ -59,6 +123,37 @@ public class ThrowableEntity extends Entity implements Tickable {
         motion = motion.mul(drag).down(gravity);
     }
 
+    /**
+     * Moves the entity to the position from the Java server while the Bedrock client moves it itself.
+     * The client is only corrected if the position it should have predicted is too far from the Java position.
+     */
+    protected void moveClientSimulated(GeyserSession session, Vector3f position, Vector3f rotation, boolean isOnGround, boolean teleported) {
+        int ticks = (int) Math.min((System.currentTimeMillis() - syncedTime) / 50, MAX_PREDICTED_TICKS);
+        float drag = getDrag(session);
+        float gravity = getGravity(session);
+        Vector3f predictedPosition = syncedPosition;
+        Vector3f predictedMotion = syncedMotion;
+        for (int i = 0; i < ticks; i++) {
+            predictedPosition = predictedPosition.add(predictedMotion);
+            predictedMotion = predictedMotion.mul(drag).down(gravity);
+        }
+        motion = predictedMotion;
+
+        if (teleported || isOnGround != onGround || position.distanceSquared(predictedPosition) > CORRECTION_DISTANCE_SQUARED) {
+            super.moveAbsolute(session, position, rotation, isOnGround, teleported);
+
+            SetEntityMotionPacket motionPacket = new SetEntityMotionPacket();
+            motionPacket.setRuntimeEntityId(geyserId);
+            motionPacket.setMotion(motion);
+            session.sendUpstreamPacket(motionPacket);
+            markSynced();
+        } else {
+            setPosition(position);
+            setRotation(rotation);
+            setOnGround(isOnGround);
+        }
+    }
+
     protected void moveAbsoluteImmediate(GeyserSession session, Vector3f position, Vector3f rotation, boolean isOnGround, boolean teleported) {
         MoveEntityDeltaPacket moveEntityDeltaPacket = new MoveEntityDeltaPacket();
         moveEntityDeltaPacket.setRuntimeEntityId(geyserId);
@@ -188,13 +283,21 @@ public class ThrowableEntity extends Entity implements Tickable {
 
     @Override
     public void moveRelative(GeyserSession session, double relX, double relY, double relZ, Vector3f rotation, boolean isOnGround) {
-        moveAbsoluteImmediate(session, lastJavaPosition.add(relX, relY, relZ), rotation, isOnGround, false);
+        if (clientSimulated) {
+            moveClientSimulated(session, lastJavaPosition.add(relX, relY, relZ), rotation, isOnGround, false);
+        } else {
+            moveAbsoluteImmediate(session, lastJavaPosition.add(relX, relY, relZ), rotation, isOnGround, false);
+        }
         lastJavaPosition = position;
     }
 
     @Override
     public void moveAbsolute(GeyserSession session, Vector3f position, Vector3f rotation, boolean isOnGround, boolean teleported) {
-        moveAbsoluteImmediate(session, position, rotation, isOnGround, teleported);
+        if (clientSimulated) {
+            moveClientSimulated(session, position, rotation, isOnGround, teleported);
+        } else {
+            moveAbsoluteImmediate(session, position, rotation, isOnGround, teleported);
+        }
         lastJavaPosition = position;
     }
 }
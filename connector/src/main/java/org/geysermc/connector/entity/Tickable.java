@@ -32,4 +32,13 @@ import org.geysermc.connector.network.session.GeyserSession;
  */
 public interface Tickable {
     void tick(GeyserSession session);
+
+    /**
+     * Checked once the entity has been spawned.
+     *
+     * @return whether this entity should be ticked
+     */
+    default boolean shouldTick() {
+        return true;
+    }
 }
@@ -27,12 +27,8 @@ package org.geysermc.connector.entity.player;
 
 import com.github.steveice10.mc.auth.data.GameProfile;
 import com.nukkitx.math.vector.Vector3f;
-import com.nukkitx.math.vector.Vector3i;
 import com.nukkitx.protocol.bedrock.data.entity.EntityData;
 import com.nukkitx.protocol.bedrock.data.entity.EntityFlag;
-import lombok.Getter;
-import lombok.Setter;
-import org.geysermc.connector.network.session.GeyserSession;
 
 /**
  * A wrapper to handle skulls more effectively - skulls have to be treated as entities since there are no
@@ -40,14 +36,6 @@ import org.geysermc.connector.network.session.GeyserSession;
  */
 public class SkullPlayerEntity extends PlayerEntity {
 
-    /**
-     * Stores the block state that the skull is associated with. Used to determine if the block in the skull's position
-     * has changed
-     */
-    @Getter
-    @Setter
-    private int blockState;
-
     public SkullPlayerEntity(GameProfile gameProfile, long geyserId, Vector3f position, Vector3f rotation) {
         super(gameProfile, 0, geyserId, position, Vector3f.ZERO, rotation);
         setPlayerList(false);
@@ -60,9 +48,4 @@ public class SkullPlayerEntity extends PlayerEntity {
         metadata.getOrCreateFlags().setFlag(EntityFlag.CAN_SHOW_NAME, false);
         metadata.getFlags().setFlag(EntityFlag.INVISIBLE, true); // Until the skin is loaded
     }
-
-    public void despawnEntity(GeyserSession session, Vector3i position) {
-        this.despawnEntity(session);
-        session.getSkullCache().remove(position, this);
-    }
 }
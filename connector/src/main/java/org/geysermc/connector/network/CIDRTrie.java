@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2019-2021 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.connector.network;
+
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * A binary prefix trie of IPv4 and IPv6 ranges, for checking an address against many {@link CIDRMatcher}-style
+ * entries at once. Lookups walk at most one node per address bit, no matter how many ranges were added.
+ */
+public class CIDRTrie {
+    /**
+     * Index of a missing child
+     */
+    private static final int NONE = -1;
+
+    private final Root ipv4 = new Root();
+    private final Root ipv6 = new Root();
+
+    public CIDRTrie(Collection<String> ranges) {
+        for (String range : ranges) {
+            add(range);
+        }
+    }
+
+    private void add(String range) {
+        String[] split = range.split("/", 2);
+
+        InetAddress address;
+        try {
+            address = InetAddress.getByName(split[0]);
+        } catch (UnknownHostException e) {
+            throw new RuntimeException(e);
+        }
+
+        byte[] bytes = address.getAddress();
+        int maskBits = split.length == 2 ? Integer.parseInt(split[1]) : bytes.length * 8;
+        if (maskBits < 0 || maskBits > bytes.length * 8) {
+            throw new IllegalArgumentException("Invalid mask in " + range);
+        }
+
+        Root root = address instanceof Inet4Address ? ipv4 : ipv6;
+        int node = 0;
+        for (int i = 0; i < maskBits; i++) {
+            if (root.isTerminal(node)) {
+                // A wider range already covers this one
+                return;
+            }
+            node = root.getOrCreateChild(node, (bytes[i >> 3] >> (7 - (i & 7))) & 1);
+        }
+        root.setTerminal(node);
+    }
+
+    public boolean matches(InetAddress inetAddress) {
+        if (inetAddress instanceof Inet4Address) {
+            // The hash code of an IPv4 address is the address itself, which saves copying the address bytes
+            int bits = inetAddress.hashCode();
+            int node = 0;
+            for (int i = 31; node != NONE; i--) {
+                if (ipv4.isTerminal(node)) {
+                    return true;
+                }
+                if (i < 0) {
+                    return false;
+                }
+                node = ipv4.getChild(node, (bits >>> i) & 1);
+            }
+            return false;
+        }
+
+        byte[] bytes = inetAddress.getAddress();
+        int node = 0;
+        for (int i = 0; node != NONE; i++) {
+            if (ipv6.isTerminal(node)) {
+                return true;
+            }
+            if (i == bytes.length * 8) {
+                return false;
+            }
+            node = ipv6.getChild(node, (bytes[i >> 3] >> (7 - (i & 7))) & 1);
+        }
+        return false;
+    }
+
+    /**
+     * The nodes of one address family, stored in flat arrays. Node 0 is the root, matching every address once marked
+     * as terminal.
+     */
+    private static class Root {
+        private int[] children = new int[] {NONE, NONE};
+        private boolean[] terminal = new boolean[1];
+        private int size = 1;
+
+        private boolean isTerminal(int node) {
+            return terminal[node];
+        }
+
+        private void setTerminal(int node) {
+            terminal[node] = true;
+        }
+
+        private int getChild(int node, int bit) {
+            return children[(node << 1) | bit];
+        }
+
+        private int getOrCreateChild(int node, int bit) {
+            int child = children[(node << 1) | bit];
+            if (child != NONE) {
+                return child;
+            }
+
+            if (size == terminal.length) {
+                int oldLength = children.length;
+                children = Arrays.copyOf(children, oldLength * 2);
+                Arrays.fill(children, oldLength, children.length, NONE);
+                terminal = Arrays.copyOf(terminal, terminal.length * 2);
+            }
+            child = size++;
+            children[(node << 1) | bit] = child;
+            return child;
+        }
+    }
+}
@@ -30,6 +30,7 @@ import com.nukkitx.protocol.bedrock.BedrockServerEventHandler;
 import com.nukkitx.protocol.bedrock.BedrockServerSession;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.socket.DatagramPacket;
+import lombok.AllArgsConstructor;
 import org.geysermc.connector.GeyserConnector;
 import org.geysermc.connector.common.ping.GeyserPingInfo;
 import org.geysermc.connector.configuration.GeyserConfiguration;
@@ -41,6 +42,7 @@ import org.geysermc.connector.utils.LanguageUtils;
 import java.net.InetSocketAddress;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Objects;
 
 public class ConnectorServerEventHandler implements BedrockServerEventHandler {
     /*
@@ -54,24 +56,23 @@ public class ConnectorServerEventHandler implements BedrockServerEventHandler {
     private static final int MAGIC_RAKNET_LENGTH = 338;
 
     private final GeyserConnector connector;
+    private final PingRateLimiter pingRateLimiter;
+
+    /**
+     * The last pong sent, reused until the ping passthrough information or player count changes
+     */
+    private volatile CachedPong cachedPong;
 
     public ConnectorServerEventHandler(GeyserConnector connector) {
         this.connector = connector;
+        this.pingRateLimiter = new PingRateLimiter(connector.getConfig().getPingRateLimit());
     }
 
     @Override
     public boolean onConnectionRequest(InetSocketAddress inetSocketAddress) {
         List<String> allowedProxyIPs = connector.getConfig().getBedrock().getProxyProtocolWhitelistedIPs();
         if (connector.getConfig().getBedrock().isEnableProxyProtocol() && !allowedProxyIPs.isEmpty()) {
-            boolean isWhitelistedIP = false;
-            for (CIDRMatcher matcher : connector.getConfig().getBedrock().getWhitelistedIPsMatchers()) {
-                if (matcher.matches(inetSocketAddress.getAddress())) {
-                    isWhitelistedIP = true;
-                    break;
-                }
-            }
-
-            if (!isWhitelistedIP) {
+            if (!connector.getConfig().getBedrock().getWhitelistedIPsTrie().matches(inetSocketAddress.getAddress())) {
                 return false;
             }
         }
@@ -82,9 +83,14 @@ public class ConnectorServerEventHandler implements BedrockServerEventHandler {
 
     @Override
     public BedrockPong onQuery(InetSocketAddress inetSocketAddress) {
-        connector.getLogger().debug(LanguageUtils.getLocaleStringLog("geyser.network.pinged", inetSocketAddress));
+        if (!pingRateLimiter.tryAcquire(inetSocketAddress.getAddress())) {
+            return null;
+        }
 
         GeyserConfiguration config = connector.getConfig();
+        if (config.isDebugMode()) {
+            connector.getLogger().debug(LanguageUtils.getLocaleStringLog("geyser.network.pinged", inetSocketAddress));
+        }
 
         GeyserPingInfo pingInfo = null;
         if (config.isPassthroughMotd() || config.isPassthroughPlayerCounts()) {
@@ -92,6 +98,18 @@ public class ConnectorServerEventHandler implements BedrockServerEventHandler {
             pingInfo = pingPassthrough.getPingInformation(inetSocketAddress);
         }
 
+        int playerCount = connector.getPlayers().size();
+        CachedPong cached = this.cachedPong;
+        if (cached != null && cached.playerCount == playerCount && Objects.equals(cached.pingInfo, pingInfo)) {
+            return cached.pong;
+        }
+
+        BedrockPong pong = createPong(config, pingInfo, playerCount);
+        this.cachedPong = new CachedPong(pingInfo, playerCount, pong);
+        return pong;
+    }
+
+    private BedrockPong createPong(GeyserConfiguration config, GeyserPingInfo pingInfo, int playerCount) {
         BedrockPong pong = new BedrockPong();
         pong.setEdition("MCPE");
         pong.setGameType("Survival"); // Can only be Survival or Creative as of 1.16.210.59
@@ -116,7 +134,7 @@ public class ConnectorServerEventHandler implements BedrockServerEventHandler {
             pong.setPlayerCount(pingInfo.getPlayers().getOnline());
             pong.setMaximumPlayerCount(pingInfo.getPlayers().getMax());
         } else {
-            pong.setPlayerCount(connector.getPlayers().size());
+            pong.setPlayerCount(playerCount);
             pong.setMaximumPlayerCount(config.getMaxPlayers());
         }
 
@@ -166,6 +184,15 @@ public class ConnectorServerEventHandler implements BedrockServerEventHandler {
 
     @Override
     public void onUnhandledDatagram(ChannelHandlerContext ctx, DatagramPacket packet) {
-        new QueryPacketHandler(connector, packet.sender(), packet.content());
+        if (pingRateLimiter.tryAcquire(packet.sender().getAddress())) {
+            new QueryPacketHandler(connector, packet.sender(), packet.content());
+        }
+    }
+
+    @AllArgsConstructor
+    private static class CachedPong {
+        private final GeyserPingInfo pingInfo;
+        private final int playerCount;
+        private final BedrockPong pong;
     }
 }
\ No newline at end of file
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2019-2021 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.connector.network;
+
+import com.nukkitx.protocol.bedrock.BedrockPacket;
+import com.nukkitx.protocol.bedrock.BedrockPacketCodec;
+import com.nukkitx.protocol.bedrock.packet.AvailableEntityIdentifiersPacket;
+import com.nukkitx.protocol.bedrock.packet.BiomeDefinitionListPacket;
+import com.nukkitx.protocol.bedrock.packet.CreativeContentPacket;
+import com.nukkitx.protocol.bedrock.wrapper.BedrockWrapperSerializers;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.geysermc.connector.network.session.GeyserSession;
+import org.geysermc.connector.network.translators.BiomeTranslator;
+import org.geysermc.connector.network.translators.EntityIdentifierRegistry;
+import org.geysermc.connector.network.translators.item.ItemRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.Deflater;
+
+/**
+ * Holds the packets sent to every player on join that are the same for everyone on a given Bedrock version.
+ * They are serialized and compressed once per protocol version and the resulting batch is shared by every session.
+ */
+public class JoinPacketCache {
+    /**
+     * Compressed batches, keyed by Bedrock protocol version
+     */
+    private static final Map<Integer, ByteBuf> BATCHES = new ConcurrentHashMap<>();
+
+    /**
+     * Sends the biome definitions, entity identifiers and creative inventory to the session, in that order.
+     *
+     * @param session the session that is joining
+     */
+    public static void sendJoinPackets(GeyserSession session) {
+        BedrockPacketCodec codec = session.getUpstream().getSession().getPacketCodec();
+        ByteBuf batch = BATCHES.computeIfAbsent(codec.getProtocolVersion(), version -> encode(codec, session));
+        // The batch itself is never written to, so each session can read from its own view of it
+        session.getUpstream().sendWrapped(batch.retainedDuplicate());
+    }
+
+    private static ByteBuf encode(BedrockPacketCodec codec, GeyserSession session) {
+        List<BedrockPacket> packets = new ArrayList<>(3);
+
+        BiomeDefinitionListPacket biomeDefinitionListPacket = new BiomeDefinitionListPacket();
+        biomeDefinitionListPacket.setDefinitions(BiomeTranslator.BIOMES);
+        packets.add(biomeDefinitionListPacket);
+
+        AvailableEntityIdentifiersPacket entityPacket = new AvailableEntityIdentifiersPacket();
+        entityPacket.setIdentifiers(EntityIdentifierRegistry.ENTITY_IDENTIFIERS);
+        packets.add(entityPacket);
+
+        CreativeContentPacket creativePacket = new CreativeContentPacket();
+        creativePacket.setContents(ItemRegistry.CREATIVE_ITEMS);
+        packets.add(creativePacket);
+
+        // Unpooled, since this buffer lives as long as Geyser does
+        ByteBuf batch = Unpooled.directBuffer();
+        // This only happens once per version, so the extra time spent on the best compression is worth it
+        BedrockWrapperSerializers.getSerializer(codec.getRaknetProtocolVersion())
+                .serialize(batch, codec, packets, Deflater.BEST_COMPRESSION, session.getUpstream().getSession());
+        return batch;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2019-2021 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.connector.network;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.net.InetAddress;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limits how many pings and queries a single IP address can send per second.
+ */
+public class PingRateLimiter {
+    /**
+     * Every address seen in the current one second window, mapped to the amount of requests it sent.
+     * Bounded so a flood from many (possibly spoofed) addresses cannot grow it without limit.
+     */
+    private final Cache<InetAddress, AtomicInteger> requests = CacheBuilder.newBuilder()
+            .expireAfterWrite(1, TimeUnit.SECONDS)
+            .maximumSize(10000)
+            .build();
+
+    private final int maxRequestsPerSecond;
+
+    /**
+     * @param maxRequestsPerSecond the amount of requests allowed per address per second, or 0 for no limit
+     */
+    public PingRateLimiter(int maxRequestsPerSecond) {
+        this.maxRequestsPerSecond = maxRequestsPerSecond;
+    }
+
+    /**
+     * Count a request from the given address.
+     *
+     * @param address the address sending the request
+     * @return true if the request should be answered
+     */
+    public boolean tryAcquire(InetAddress address) {
+        if (maxRequestsPerSecond <= 0) {
+            return true;
+        }
+        return requests.asMap().computeIfAbsent(address, key -> new AtomicInteger()).incrementAndGet() <= maxRequestsPerSecond;
+    }
+}
@@ -27,6 +27,7 @@ package org.geysermc.connector.network;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import lombok.AllArgsConstructor;
 import org.geysermc.connector.common.ping.GeyserPingInfo;
 import org.geysermc.connector.GeyserConnector;
 import org.geysermc.connector.network.translators.chat.MessageTranslator;
@@ -42,7 +43,7 @@ import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Random;
+import java.util.Objects;
 import java.util.concurrent.ThreadLocalRandom;
 
 public class QueryPacketHandler {
@@ -50,6 +51,19 @@ public class QueryPacketHandler {
     public static final byte HANDSHAKE = 0x09;
     public static final byte STATISTICS = 0x00;
 
+    private static final ThreadLocal<MessageDigest> MD5_DIGEST = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            return null;
+        }
+    });
+
+    /**
+     * The last encoded game and player data, reused until the ping passthrough information or player count changes
+     */
+    private static volatile CachedQueryData cachedQueryData;
+
     private GeyserConnector connector;
     private InetSocketAddress sender;
     private byte type;
@@ -115,37 +129,60 @@ public class QueryPacketHandler {
      * Sends the query data to the sender
      */
     private void sendQueryData() {
-        ByteBuf reply = ByteBufAllocator.DEFAULT.ioBuffer(64);
+        byte[] queryData = getQueryData();
+
+        ByteBuf reply = ByteBufAllocator.DEFAULT.ioBuffer(5 + queryData.length);
         reply.writeByte(STATISTICS);
         reply.writeInt(sessionId);
 
-        // Game Info
-        reply.writeBytes(getGameData());
-
-        // Players
-        reply.writeBytes(getPlayers());
+        // Game Info and Players
+        reply.writeBytes(queryData);
 
         sendPacket(reply);
     }
 
+    /**
+     * Gets the encoded game data and players, only encoding it again if something changed
+     *
+     * @return the game data followed by the players
+     */
+    private byte[] getQueryData() {
+        GeyserPingInfo pingInfo = null;
+        if (connector.getConfig().isPassthroughMotd() || connector.getConfig().isPassthroughPlayerCounts()) {
+            pingInfo = connector.getBootstrap().getGeyserPingPassthrough().getPingInformation();
+        }
+        int playerCount = connector.getPlayers().size();
+
+        CachedQueryData cached = cachedQueryData;
+        if (cached != null && cached.connector == connector && cached.playerCount == playerCount && Objects.equals(cached.pingInfo, pingInfo)) {
+            return cached.data;
+        }
+
+        byte[] gameData = getGameData(pingInfo, playerCount);
+        byte[] players = getPlayers(pingInfo);
+        byte[] data = new byte[gameData.length + players.length];
+        System.arraycopy(gameData, 0, data, 0, gameData.length);
+        System.arraycopy(players, 0, data, gameData.length, players.length);
+
+        cachedQueryData = new CachedQueryData(connector, pingInfo, playerCount, data);
+        return data;
+    }
+
     /**
      * Gets the game data for the query
      *
+     * @param pingInfo the ping passthrough information, if any
+     * @param playerCount the amount of players connected through Geyser
      * @return the game data for the query
      */
-    private byte[] getGameData() {
+    private byte[] getGameData(GeyserPingInfo pingInfo, int playerCount) {
         ByteArrayOutputStream query = new ByteArrayOutputStream();
 
-        GeyserPingInfo pingInfo = null;
         String motd;
         String currentPlayerCount;
         String maxPlayerCount;
         String map;
 
-        if (connector.getConfig().isPassthroughMotd() || connector.getConfig().isPassthroughPlayerCounts()) {
-            pingInfo = connector.getBootstrap().getGeyserPingPassthrough().getPingInformation();
-        }
-
         if (connector.getConfig().isPassthroughMotd() && pingInfo != null) {
             String[] javaMotd = MessageTranslator.convertMessageLenient(pingInfo.getDescription()).split("\n");
             motd = javaMotd[0].trim(); // First line of the motd.
@@ -158,7 +195,7 @@ public class QueryPacketHandler {
             currentPlayerCount = String.valueOf(pingInfo.getPlayers().getOnline());
             maxPlayerCount = String.valueOf(pingInfo.getPlayers().getMax());
         } else {
-            currentPlayerCount = String.valueOf(connector.getPlayers().size());
+            currentPlayerCount = String.valueOf(playerCount);
             maxPlayerCount = String.valueOf(connector.getConfig().getMaxPlayers());
         }
 
@@ -209,16 +246,12 @@ public class QueryPacketHandler {
     /**
      * Generate a byte[] storing the player names
      *
+     * @param pingInfo the ping passthrough information, if any
      * @return The byte[] representation of players
      */
-    private byte[] getPlayers() {
+    private byte[] getPlayers(GeyserPingInfo pingInfo) {
         ByteArrayOutputStream query = new ByteArrayOutputStream();
 
-        GeyserPingInfo pingInfo = null;
-        if (connector.getConfig().isPassthroughMotd() || connector.getConfig().isPassthroughPlayerCounts()) {
-            pingInfo = connector.getBootstrap().getGeyserPingPassthrough().getPingInformation();
-        }
-
         try {
             // Start the player section
             query.write("player_".getBytes());
@@ -255,9 +288,7 @@ public class QueryPacketHandler {
      */
     public void regenerateToken() {
         byte[] token = new byte[16];
-        for (int i = 0; i < 16; i++) {
-            token[i] = (byte) new Random().nextInt(255);
-        }
+        ThreadLocalRandom.current().nextBytes(token);
 
         this.token = token;
     }
@@ -272,22 +303,31 @@ public class QueryPacketHandler {
      * @return an MD5 token for the current IP/Port
      */
     public static byte[] getTokenString(byte[] token, InetAddress address) {
-        try {
-            // Generate an MD5 hash from the address
-            MessageDigest digest = MessageDigest.getInstance("MD5");
-            digest.update(address.toString().getBytes(StandardCharsets.UTF_8));
-            digest.update(token);
+        // Reuse one digest per thread instead of looking one up for every query
+        MessageDigest digest = MD5_DIGEST.get();
+        if (digest == null) {
+            return (ByteBuffer.allocate(4).putInt(ThreadLocalRandom.current().nextInt()).getInt() + "\0").getBytes();
+        }
 
-            // Get the first 4 bytes of the digest
-            byte[] digestBytes = Arrays.copyOf(digest.digest(), 4);
+        // Generate an MD5 hash from the address
+        digest.update(address.toString().getBytes(StandardCharsets.UTF_8));
+        digest.update(token);
 
-            // Convert the bytes to a buffer
-            ByteBuffer byteBuffer = ByteBuffer.wrap(digestBytes);
+        // Get the first 4 bytes of the digest
+        byte[] digestBytes = Arrays.copyOf(digest.digest(), 4);
 
-            // Turn the number into a null terminated string
-            return (byteBuffer.getInt() + "\0").getBytes();
-        } catch (NoSuchAlgorithmException e) {
-            return (ByteBuffer.allocate(4).putInt(ThreadLocalRandom.current().nextInt()).getInt() + "\0").getBytes();
-        }
+        // Convert the bytes to a buffer
+        ByteBuffer byteBuffer = ByteBuffer.wrap(digestBytes);
+
+        // Turn the number into a null terminated string
+        return (byteBuffer.getInt() + "\0").getBytes();
+    }
+
+    @AllArgsConstructor
+    private static class CachedQueryData {
+        private final GeyserConnector connector;
+        private final GeyserPingInfo pingInfo;
+        private final int playerCount;
+        private final byte[] data;
     }
 }
@@ -70,21 +70,30 @@ public class UpstreamPacketHandler extends LoggingPacketHandler {
 
         session.getUpstream().getSession().setPacketCodec(packetCodec);
 
-        LoginEncryptionUtils.encryptPlayerConnection(connector, session, loginPacket);
-
-        PlayStatusPacket playStatus = new PlayStatusPacket();
-        playStatus.setStatus(PlayStatusPacket.Status.LOGIN_SUCCESS);
-        session.sendUpstreamPacket(playStatus);
-
-        ResourcePacksInfoPacket resourcePacksInfo = new ResourcePacksInfoPacket();
-        for(ResourcePack resourcePack : ResourcePack.PACKS.values()) {
-            ResourcePackManifest.Header header = resourcePack.getManifest().getHeader();
-            resourcePacksInfo.getResourcePackInfos().add(new ResourcePacksInfoPacket.Entry(
-                    header.getUuid().toString(), header.getVersionString(), resourcePack.getFile().length(),
-                            "", "", "", false, false));
-        }
-        resourcePacksInfo.setForcedToAccept(GeyserConnector.getInstance().getConfig().isForceResourcePacks());
-        session.sendUpstreamPacket(resourcePacksInfo);
+        // Continue on the session's event loop, so nothing here races with packets handled for this session
+        LoginEncryptionUtils.encryptPlayerConnection(connector, session, loginPacket).whenCompleteAsync((success, throwable) -> {
+            if (throwable != null) {
+                connector.getLogger().error("Unable to complete login", throwable);
+                return;
+            }
+            if (!success) {
+                return;
+            }
+
+            PlayStatusPacket playStatus = new PlayStatusPacket();
+            playStatus.setStatus(PlayStatusPacket.Status.LOGIN_SUCCESS);
+            session.sendUpstreamPacket(playStatus);
+
+            ResourcePacksInfoPacket resourcePacksInfo = new ResourcePacksInfoPacket();
+            for(ResourcePack resourcePack : ResourcePack.PACKS.values()) {
+                ResourcePackManifest.Header header = resourcePack.getManifest().getHeader();
+                resourcePacksInfo.getResourcePackInfos().add(new ResourcePacksInfoPacket.Entry(
+                        header.getUuid().toString(), header.getVersionString(), resourcePack.getFile().length(),
+                                "", "", "", false, false));
+            }
+            resourcePacksInfo.setForcedToAccept(GeyserConnector.getInstance().getConfig().isForceResourcePacks());
+            session.sendUpstreamPacket(resourcePacksInfo);
+        }, session.getUpstream().getSession().getEventLoop());
         return true;
     }
 
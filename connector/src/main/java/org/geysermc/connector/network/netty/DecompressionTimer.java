@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2019-2021 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.connector.network.netty;
+
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelPipeline;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long the compression handler of a downstream connection spends decompressing packets.
+ * A marker is placed on both sides of the handler; everything between them runs synchronously on the channel's thread.
+ */
+public class DecompressionTimer {
+    private static final String COMPRESSION = "compression";
+    private static final String START = "decompression-timer-start";
+    private static final String END = "decompression-timer-end";
+
+    private final ChannelHandler startHandler = new StartHandler();
+    private final ChannelHandler endHandler = new EndHandler();
+
+    private long startTime;
+    private volatile long totalNanos;
+    private volatile long packets;
+
+    /**
+     * Place the markers around the compression handler, if there is one and it isn't timed yet.
+     */
+    public void addTo(ChannelPipeline pipeline) {
+        if (pipeline.get(COMPRESSION) == null) {
+            return;
+        }
+        if (pipeline.get(START) == null) {
+            pipeline.addBefore(COMPRESSION, START, startHandler);
+        }
+        if (pipeline.get(END) == null) {
+            pipeline.addAfter(COMPRESSION, END, endHandler);
+        }
+    }
+
+    /**
+     * @return how many packets have passed through the compression handler
+     */
+    public long getPackets() {
+        return packets;
+    }
+
+    /**
+     * @return the total time spent decompressing, in milliseconds
+     */
+    public double getTotalMillis() {
+        return totalNanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @ChannelHandler.Sharable
+    private class StartHandler extends ChannelInboundHandlerAdapter {
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+            startTime = System.nanoTime();
+            super.channelRead(ctx, msg);
+        }
+    }
+
+    @ChannelHandler.Sharable
+    private class EndHandler extends ChannelInboundHandlerAdapter {
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+            // Only written from the channel's thread
+            totalNanos += System.nanoTime() - startTime;
+            packets++;
+            super.channelRead(ctx, msg);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2019-2021 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.connector.network.netty;
+
+import com.github.steveice10.packetlib.Client;
+import com.github.steveice10.packetlib.packet.PacketProtocol;
+import com.github.steveice10.packetlib.tcp.TcpClientSession;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPipeline;
+import lombok.Getter;
+import lombok.Setter;
+import org.geysermc.connector.GeyserConnector;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A downstream session that keeps track of the time it spends decompressing packets.
+ */
+public class GeyserTcpClientSession extends TcpClientSession {
+    /**
+     * Whether the hint about compression on local connections was already shown
+     */
+    private static final AtomicBoolean LOCAL_COMPRESSION_HINT = new AtomicBoolean();
+
+    @Getter
+    private final DecompressionTimer decompressionTimer = new DecompressionTimer();
+
+    /**
+     * Ran on the channel's thread once every packet from one read from the Java server has been handled
+     */
+    @Setter
+    private Runnable readCompleteHandler;
+
+    private ChannelPipeline pipeline;
+
+    public GeyserTcpClientSession(String host, int port, PacketProtocol protocol, Client client) {
+        super(host, port, protocol, client, null);
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) throws Exception {
+        this.pipeline = ctx.pipeline();
+        super.channelActive(ctx);
+    }
+
+    @Override
+    public void channelReadComplete(ChannelHandlerContext ctx) throws Exception {
+        super.channelReadComplete(ctx);
+        if (readCompleteHandler != null) {
+            readCompleteHandler.run();
+        }
+    }
+
+    @Override
+    public void setCompressionThreshold(int threshold) {
+        super.setCompressionThreshold(threshold);
+        if (pipeline != null && threshold >= 0) {
+            decompressionTimer.addTo(pipeline);
+
+            if (isLocalConnection() && !LOCAL_COMPRESSION_HINT.getAndSet(true)) {
+                GeyserConnector.getInstance().getLogger().info("The Java server compresses packets sent to Geyser, although both run on the same machine or network. " +
+                        "If the server is only reached locally, setting its network compression threshold to -1 saves CPU time on both sides.");
+            }
+        }
+    }
+
+    /**
+     * @return if the connection doesn't leave this machine or the local network, making compression wasted effort
+     */
+    protected boolean isLocalConnection() {
+        SocketAddress address = pipeline.channel().remoteAddress();
+        if (address instanceof InetSocketAddress && ((InetSocketAddress) address).getAddress() != null) {
+            InetAddress inetAddress = ((InetSocketAddress) address).getAddress();
+            return inetAddress.isLoopbackAddress() || inetAddress.isSiteLocalAddress();
+        }
+        return false;
+    }
+}
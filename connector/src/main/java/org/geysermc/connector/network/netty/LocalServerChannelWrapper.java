@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2019-2021 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.connector.network.netty;
+
+import io.netty.channel.local.LocalChannel;
+import io.netty.channel.local.LocalServerChannel;
+
+import java.net.SocketAddress;
+
+/**
+ * The server end of a {@link LocalChannelWithRemoteAddress}, reporting the spoofed address as its remote address.
+ */
+public class LocalServerChannelWrapper extends LocalServerChannel {
+
+    @Override
+    protected LocalChannel newLocalChannel(LocalChannel peer) {
+        return new LocalChannelWrapper(this, peer);
+    }
+
+    private static class LocalChannelWrapper extends LocalChannel {
+        private final SocketAddress remoteAddress;
+
+        private LocalChannelWrapper(LocalServerChannel parent, LocalChannel peer) {
+            super(parent, peer);
+            this.remoteAddress = peer instanceof LocalChannelWithRemoteAddress ? ((LocalChannelWithRemoteAddress) peer).spoofedRemoteAddress() : null;
+        }
+
+        @Override
+        public SocketAddress remoteAddress() {
+            return remoteAddress != null ? remoteAddress : super.remoteAddress();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2019-2021 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.connector.network.netty;
+
+import com.github.steveice10.packetlib.Client;
+import com.github.steveice10.packetlib.packet.PacketProtocol;
+import com.github.steveice10.packetlib.tcp.TcpPacketCodec;
+import com.github.steveice10.packetlib.tcp.TcpPacketEncryptor;
+import com.github.steveice10.packetlib.tcp.TcpPacketSizer;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.DefaultEventLoopGroup;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+
+/**
+ * A downstream session that connects to the Java proxy through an in-memory channel instead of a socket.
+ */
+public final class LocalSession extends GeyserTcpClientSession {
+    private static DefaultEventLoopGroup DEFAULT_EVENT_LOOP_GROUP;
+
+    private final Client client;
+    private final SocketAddress targetAddress;
+    private final String clientIp;
+
+    public LocalSession(String host, int port, PacketProtocol protocol, Client client, SocketAddress targetAddress, String clientIp) {
+        super(host, port, protocol, client);
+        this.client = client;
+        this.targetAddress = targetAddress;
+        this.clientIp = clientIp;
+    }
+
+    @Override
+    public void connect(boolean wait) {
+        if (this.disconnected) {
+            throw new IllegalStateException("Session has already been disconnected.");
+        }
+
+        synchronized (LocalSession.class) {
+            if (DEFAULT_EVENT_LOOP_GROUP == null) {
+                DEFAULT_EVENT_LOOP_GROUP = new DefaultEventLoopGroup();
+            }
+        }
+
+        try {
+            Bootstrap bootstrap = new Bootstrap()
+                    .channel(LocalChannelWithRemoteAddress.class)
+                    .handler(new ChannelInitializer<LocalChannelWithRemoteAddress>() {
+                        @Override
+                        protected void initChannel(LocalChannelWithRemoteAddress channel) {
+                            channel.spoofedRemoteAddress(new InetSocketAddress(clientIp, 0));
+                            getPacketProtocol().newClientSession(client, LocalSession.this);
+
+                            refreshReadTimeoutHandler(channel);
+                            refreshWriteTimeoutHandler(channel);
+
+                            ChannelPipeline pipeline = channel.pipeline();
+                            pipeline.addLast("encryption", new TcpPacketEncryptor(LocalSession.this));
+                            pipeline.addLast("sizer", new TcpPacketSizer(LocalSession.this));
+                            pipeline.addLast("codec", new TcpPacketCodec(LocalSession.this));
+                            pipeline.addLast("manager", LocalSession.this);
+                        }
+                    })
+                    .group(DEFAULT_EVENT_LOOP_GROUP)
+                    .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, getConnectTimeout() * 1000);
+
+            ChannelFuture future = bootstrap.connect(targetAddress);
+            if (wait) {
+                future.sync();
+            }
+            future.addListener(connectFuture -> {
+                if (!connectFuture.isSuccess()) {
+                    exceptionCaught(null, connectFuture.cause());
+                }
+            });
+        } catch (Throwable t) {
+            exceptionCaught(null, t);
+        }
+    }
+
+    @Override
+    protected boolean isLocalConnection() {
+        return true;
+    }
+}
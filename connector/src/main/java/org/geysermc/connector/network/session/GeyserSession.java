@@ -49,7 +49,6 @@ import com.github.steveice10.packetlib.BuiltinFlags;
 import com.github.steveice10.packetlib.Client;
 import com.github.steveice10.packetlib.event.session.*;
 import com.github.steveice10.packetlib.packet.Packet;
-import com.github.steveice10.packetlib.tcp.TcpSessionFactory;
 import com.nukkitx.math.GenericMath;
 import com.nukkitx.math.vector.*;
 import com.nukkitx.protocol.bedrock.BedrockPacket;
@@ -83,21 +82,24 @@ import org.geysermc.connector.entity.Entity;
 import org.geysermc.connector.entity.attribute.Attribute;
 import org.geysermc.connector.entity.attribute.AttributeType;
 import org.geysermc.connector.entity.player.SessionPlayerEntity;
-import org.geysermc.connector.entity.player.SkullPlayerEntity;
 import org.geysermc.connector.entity.type.EntityType;
 import org.geysermc.connector.inventory.Inventory;
 import org.geysermc.connector.inventory.PlayerInventory;
+import org.geysermc.connector.network.JoinPacketCache;
+import org.geysermc.connector.network.netty.GeyserTcpClientSession;
+import org.geysermc.connector.network.netty.GeyserTcpSessionFactory;
+import org.geysermc.connector.network.netty.LocalSessionFactory;
 import org.geysermc.connector.network.remote.RemoteServer;
 import org.geysermc.connector.network.session.auth.AuthData;
 import org.geysermc.connector.network.session.auth.BedrockClientData;
 import org.geysermc.connector.network.session.cache.*;
-import org.geysermc.connector.network.translators.BiomeTranslator;
-import org.geysermc.connector.network.translators.EntityIdentifierRegistry;
+import org.geysermc.connector.network.translators.PacketProfiler;
 import org.geysermc.connector.network.translators.PacketTranslatorRegistry;
 import org.geysermc.connector.network.translators.chat.MessageTranslator;
 import org.geysermc.connector.network.translators.collision.CollisionManager;
 import org.geysermc.connector.network.translators.inventory.InventoryTranslator;
 import org.geysermc.connector.network.translators.item.ItemRegistry;
+import org.geysermc.connector.skin.SkinBandwidthLimiter;
 import org.geysermc.connector.skin.SkinManager;
 import org.geysermc.connector.utils.*;
 import org.geysermc.floodgate.util.BedrockData;
@@ -106,6 +108,7 @@ import org.geysermc.floodgate.util.EncryptionUtil;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.net.SocketAddress;
 import java.security.NoSuchAlgorithmException;
 import java.security.PublicKey;
 import java.security.spec.InvalidKeySpecException;
@@ -171,8 +174,16 @@ public class GeyserSession implements CommandSender {
      */
     private final CollisionManager collisionManager;
 
-    private final Map<Vector3i, SkullPlayerEntity> skullCache = new ConcurrentHashMap<>();
-    private final Long2ObjectMap<ClientboundMapItemDataPacket> storedMaps = Long2ObjectMaps.synchronize(new Long2ObjectOpenHashMap<>());
+    private final SkullCache skullCache;
+
+    /**
+     * Limits how fast skins are sent when lazy skins are enabled
+     */
+    private final SkinBandwidthLimiter skinBandwidthLimiter;
+    /**
+     * The latest state of every map this session has seen. Full images are shared between sessions until they are patched.
+     */
+    private final Long2ObjectMap<StoredMap> storedMaps = Long2ObjectMaps.synchronize(new Long2ObjectOpenHashMap<>());
 
     /**
      * A map of Vector3i positions to Java entity IDs.
@@ -281,8 +292,16 @@ public class GeyserSession implements CommandSender {
     @Setter
     private Entity ridingVehicleEntity;
 
-    @Setter
+    /**
+     * Translation timings of this session, only recorded while the {@link PacketProfiler} is enabled
+     */
+    private final PacketProfiler.PacketStatistics packetStatistics = new PacketProfiler.PacketStatistics();
+
+    /**
+     * May be shared with other sessions until this session adds a recipe of its own
+     */
     private Int2ObjectMap<Recipe> craftingRecipes;
+    private boolean craftingRecipesShared;
     private final Set<String> unlockedRecipes;
     private final AtomicInteger lastRecipeNetId;
 
@@ -414,11 +433,6 @@ public class GeyserSession implements CommandSender {
     private List<UUID> selectedEmotes = new ArrayList<>();
     private final Set<UUID> emotes = new HashSet<>();
 
-    /**
-     * The thread that will run every 50 milliseconds - one Minecraft tick.
-     */
-    private ScheduledFuture<?> tickThread = null;
-
     private MinecraftProtocol protocol;
 
     public GeyserSession(GeyserConnector connector, BedrockServerSession bedrockServerSession) {
@@ -430,6 +444,8 @@ public class GeyserSession implements CommandSender {
         this.chunkCache = new ChunkCache(this);
         this.entityCache = new EntityCache(this);
         this.effectCache = new EntityEffectCache();
+        this.skullCache = new SkullCache(this);
+        this.skinBandwidthLimiter = new SkinBandwidthLimiter(this, connector.getConfig().getSkinBandwidthLimit());
         this.worldCache = new WorldCache(this);
         this.windowCache = new WindowCache(this);
 
@@ -453,10 +469,6 @@ public class GeyserSession implements CommandSender {
 
         connector.getPlayers().forEach(player -> this.emotes.addAll(player.getEmotes()));
 
-        // Make a copy to prevent ConcurrentModificationException
-        final List<GeyserSession> tmpPlayers = new ArrayList<>(connector.getPlayers());
-        tmpPlayers.forEach(player -> this.emotes.addAll(player.getEmotes()));
-
         bedrockServerSession.addDisconnectHandler(disconnectReason -> {
             InetAddress address = bedrockServerSession.getRealAddress().getAddress();
             connector.getLogger().info(LanguageUtils.getLocaleStringLog("geyser.network.disconnect", address, disconnectReason));
@@ -476,22 +488,14 @@ public class GeyserSession implements CommandSender {
         if (ItemRegistry.FURNACE_MINECART_DATA != null) {
             ItemComponentPacket componentPacket = new ItemComponentPacket();
             componentPacket.getItems().add(ItemRegistry.FURNACE_MINECART_DATA);
-            upstream.sendPacket(componentPacket);
+            upstream.sendPacketImmediately(componentPacket);
         }
 
-        ChunkUtils.sendEmptyChunks(this, playerEntity.getPosition().toInt(), 0, false);
-
-        BiomeDefinitionListPacket biomeDefinitionListPacket = new BiomeDefinitionListPacket();
-        biomeDefinitionListPacket.setDefinitions(BiomeTranslator.BIOMES);
-        upstream.sendPacket(biomeDefinitionListPacket);
-
-        AvailableEntityIdentifiersPacket entityPacket = new AvailableEntityIdentifiersPacket();
-        entityPacket.setIdentifiers(EntityIdentifierRegistry.ENTITY_IDENTIFIERS);
-        upstream.sendPacket(entityPacket);
+        // Biome definitions, entity identifiers and the creative inventory are the same for everyone.
+        // Sent immediately, so the packets above have to be sent immediately too to keep them in order
+        JoinPacketCache.sendJoinPackets(this);
 
-        CreativeContentPacket creativePacket = new CreativeContentPacket();
-        creativePacket.setContents(ItemRegistry.CREATIVE_ITEMS);
-        upstream.sendPacket(creativePacket);
+        ChunkUtils.sendEmptyChunks(this, playerEntity.getPosition().toInt(), 0, false);
 
         PlayStatusPacket playStatusPacket = new PlayStatusPacket();
         playStatusPacket.setStatus(PlayStatusPacket.Status.PLAYER_SPAWN);
@@ -654,10 +658,20 @@ public class GeyserSession implements CommandSender {
         }
 
         // Start ticking
-        tickThread = connector.getGeneralThreadPool().scheduleAtFixedRate(this::tick, 50, 50, TimeUnit.MILLISECONDS);
+        connector.getSessionTickManager().addSession(this);
 
-        downstream = new Client(remoteServer.getAddress(), remoteServer.getPort(), protocol, new TcpSessionFactory());
-        if (connector.getConfig().getRemote().isUseProxyProtocol()) {
+        SocketAddress localAddress = connector.getBootstrap().getSocketAddress();
+        if (localAddress != null) {
+            // Connect to the proxy in memory - it sees the player's address through the channel instead
+            downstream = new Client(remoteServer.getAddress(), remoteServer.getPort(), protocol,
+                    new LocalSessionFactory(localAddress, upstream.getAddress().getAddress().getHostAddress()));
+        } else {
+            downstream = new Client(remoteServer.getAddress(), remoteServer.getPort(), protocol, new GeyserTcpSessionFactory());
+        }
+        // Send everything translated from one read of the Java server in one batch. Both factories create a
+        // GeyserTcpClientSession - LocalSession extends it - so in-memory connections flush on read complete too
+        ((GeyserTcpClientSession) downstream.getSession()).setReadCompleteHandler(upstream::flush);
+        if (localAddress == null && connector.getConfig().getRemote().isUseProxyProtocol()) {
             downstream.getSession().setFlag(BuiltinFlags.ENABLE_CLIENT_PROXY_PROTOCOL, true);
             downstream.getSession().setFlag(BuiltinFlags.CLIENT_PROXIED_ADDRESS, upstream.getAddress());
         }
@@ -707,18 +721,19 @@ public class GeyserSession implements CommandSender {
                 connector.getLogger().info(LanguageUtils.getLocaleStringLog("geyser.network.remote.connect", authData.getName(), protocol.getProfile().getName(), remoteServer.getAddress()));
                 playerEntity.setUuid(protocol.getProfile().getId());
                 playerEntity.setUsername(protocol.getProfile().getName());
+                connector.getSessionManager().updateJavaUuid(GeyserSession.this);
 
                 String locale = clientData.getLanguageCode();
 
                 // Let the user know there locale may take some time to download
                 // as it has to be extracted from a JAR
-                if (locale.toLowerCase().equals("en_us") && !LocaleUtils.LOCALE_MAPPINGS.containsKey("en_us")) {
+                if (locale.toLowerCase().equals("en_us") && !LocaleUtils.isLocaleLoaded("en_us")) {
                     // This should probably be left hardcoded as it will only show for en_us clients
                     sendMessage("Loading your locale (en_us); if this isn't already downloaded, this may take some time");
                 }
 
-                // Download and load the language for the player
-                LocaleUtils.downloadAndLoadLocale(locale);
+                // Download and load the language for the player without holding up the connection
+                LocaleUtils.downloadAndLoadLocaleAsync(locale);
             }
 
             @Override
@@ -741,6 +756,7 @@ public class GeyserSession implements CommandSender {
                         GameProfile profile = ((LoginSuccessPacket) event.getPacket()).getProfile();
                         playerEntity.setUsername(profile.getName());
                         playerEntity.setUuid(profile.getId());
+                        connector.getSessionManager().updateJavaUuid(GeyserSession.this);
 
                         // Check if they are not using a linked account
                         if (connector.getAuthType() == AuthType.OFFLINE || playerEntity.getUuid().getMostSignificantBits() == 0) {
@@ -775,14 +791,12 @@ public class GeyserSession implements CommandSender {
                 downstream.getSession().disconnect(reason);
             }
             if (upstream != null && !upstream.isClosed()) {
-                connector.getPlayers().remove(this);
+                connector.removePlayer(this);
                 upstream.disconnect(reason);
             }
         }
 
-        if (tickThread != null) {
-            tickThread.cancel(true);
-        }
+        connector.getSessionTickManager().removeSession(this);
 
         this.advancementsCache = null;
         this.bookEditCache = null;
@@ -802,7 +816,7 @@ public class GeyserSession implements CommandSender {
     }
 
     /**
-     * Called every 50 milliseconds - one Minecraft tick.
+     * Called every 50 milliseconds - one Minecraft tick - by the {@link SessionTickManager}.
      */
     public void tick() {
         // Check to see if the player's position needs updating - a position update should be sent once every 3 seconds
@@ -981,7 +995,7 @@ public class GeyserSession implements CommandSender {
         settings.setServerAuthoritativeBlockBreaking(false);
         startGamePacket.setPlayerMovementSettings(settings);
         
-        upstream.sendPacket(startGamePacket);
+        upstream.sendPacketImmediately(startGamePacket);
     }
 
     /**
@@ -1017,6 +1031,25 @@ public class GeyserSession implements CommandSender {
         }
     }
 
+    /**
+     * Set the crafting recipes known to the client. The map is treated as shared and is only read from.
+     */
+    public void setCraftingRecipes(Int2ObjectMap<Recipe> craftingRecipes) {
+        this.craftingRecipes = craftingRecipes;
+        this.craftingRecipesShared = true;
+    }
+
+    /**
+     * Add a crafting recipe that only this client knows about.
+     */
+    public void addCraftingRecipe(int netId, Recipe recipe) {
+        if (craftingRecipesShared) {
+            craftingRecipes = new Int2ObjectOpenHashMap<>(craftingRecipes);
+            craftingRecipesShared = false;
+        }
+        craftingRecipes.put(netId, recipe);
+    }
+
     /**
      * @return the next Bedrock item network ID to use for a new item
      */
@@ -1138,6 +1171,9 @@ public class GeyserSession implements CommandSender {
      */
     public void sendUpstreamPacket(BedrockPacket packet) {
         if (upstream != null) {
+            if (PacketProfiler.isEnabled()) {
+                PacketProfiler.onUpstreamPacket(this);
+            }
             upstream.sendPacket(packet);
         } else {
             connector.getLogger().debug("Tried to send upstream packet " + packet.getClass().getSimpleName() + " but the session was null");
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2019-2021 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.connector.network.session;
+
+import org.geysermc.connector.network.session.auth.AuthData;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps track of every connected session, indexed by the different identifiers a player has so lookups don't have to
+ * go through every session. Safe to use and iterate from any thread.
+ */
+public class SessionManager {
+    /**
+     * Every session, mapped to the keys it is indexed under so they can be removed again
+     */
+    private final Map<GeyserSession, IndexedKeys> sessions = new ConcurrentHashMap<>();
+    private final Collection<GeyserSession> sessionsView = Collections.unmodifiableSet(sessions.keySet());
+
+    private final Map<UUID, GeyserSession> sessionsByJavaUuid = new ConcurrentHashMap<>();
+    private final Map<UUID, GeyserSession> sessionsByBedrockUuid = new ConcurrentHashMap<>();
+    private final Map<String, GeyserSession> sessionsByXuid = new ConcurrentHashMap<>();
+    private final Map<String, GeyserSession> sessionsByName = new ConcurrentHashMap<>();
+
+    public void addSession(GeyserSession session) {
+        IndexedKeys keys = new IndexedKeys();
+        // Hold the lock while indexing so a concurrent removal can't miss any of the keys
+        synchronized (keys) {
+            if (sessions.putIfAbsent(session, keys) != null) {
+                return;
+            }
+
+            AuthData authData = session.getAuthData();
+            if (authData != null) {
+                keys.bedrockUuid = authData.getUUID();
+                keys.xuid = authData.getXboxUUID();
+                keys.name = authData.getName().toLowerCase(Locale.ROOT);
+                put(sessionsByBedrockUuid, keys.bedrockUuid, session);
+                put(sessionsByXuid, keys.xuid, session);
+                put(sessionsByName, keys.name, session);
+            }
+            updateJavaUuid(session);
+        }
+    }
+
+    /**
+     * Indexes the session under the UUID of its player entity. Must be called whenever the Java profile changes.
+     */
+    public void updateJavaUuid(GeyserSession session) {
+        IndexedKeys keys = sessions.get(session);
+        if (keys == null) {
+            // Not added yet; will be indexed once it is
+            return;
+        }
+
+        synchronized (keys) {
+            if (sessions.get(session) != keys) {
+                // Removed in the meantime
+                return;
+            }
+            UUID javaUuid = session.getPlayerEntity().getUuid();
+            if (!Objects.equals(keys.javaUuid, javaUuid)) {
+                remove(sessionsByJavaUuid, keys.javaUuid, session);
+                keys.javaUuid = javaUuid;
+                put(sessionsByJavaUuid, javaUuid, session);
+            }
+        }
+    }
+
+    public void removeSession(GeyserSession session) {
+        IndexedKeys keys = sessions.remove(session);
+        if (keys == null) {
+            return;
+        }
+
+        synchronized (keys) {
+            remove(sessionsByJavaUuid, keys.javaUuid, session);
+            remove(sessionsByBedrockUuid, keys.bedrockUuid, session);
+            remove(sessionsByXuid, keys.xuid, session);
+            remove(sessionsByName, keys.name, session);
+        }
+    }
+
+    public void clear() {
+        sessions.clear();
+        sessionsByJavaUuid.clear();
+        sessionsByBedrockUuid.clear();
+        sessionsByXuid.clear();
+        sessionsByName.clear();
+    }
+
+    /**
+     * @return a live, read-only view of every session; iterating it never throws a ConcurrentModificationException
+     */
+    public Collection<GeyserSession> getSessions() {
+        return sessionsView;
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    public GeyserSession getByJavaUuid(UUID uuid) {
+        return uuid == null ? null : sessionsByJavaUuid.get(uuid);
+    }
+
+    public GeyserSession getByBedrockUuid(UUID uuid) {
+        return uuid == null ? null : sessionsByBedrockUuid.get(uuid);
+    }
+
+    public GeyserSession getByXuid(String xuid) {
+        return xuid == null ? null : sessionsByXuid.get(xuid);
+    }
+
+    /**
+     * @param name the Bedrock username, case-insensitive
+     */
+    public GeyserSession getByName(String name) {
+        return name == null ? null : sessionsByName.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    private static <K> void put(Map<K, GeyserSession> index, K key, GeyserSession session) {
+        if (key != null) {
+            index.put(key, session);
+        }
+    }
+
+    private static <K> void remove(Map<K, GeyserSession> index, K key, GeyserSession session) {
+        if (key != null) {
+            // Don't remove a newer session that took over the key
+            index.remove(key, session);
+        }
+    }
+
+    private static class IndexedKeys {
+        private UUID javaUuid;
+        private UUID bedrockUuid;
+        private String xuid;
+        private String name;
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2019-2021 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.connector.network.session;
+
+import lombok.Getter;
+import org.geysermc.connector.GeyserConnector;
+import org.geysermc.connector.network.session.cache.WorldCache;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ticks every session from a single scheduled task instead of each session scheduling its own.
+ * Sessions are split into batches which run in parallel on the general thread pool.
+ */
+public class SessionTickManager {
+    /**
+     * One Minecraft tick
+     */
+    public static final long TICK_MILLIS = 50;
+
+    /**
+     * Don't bother splitting up fewer sessions than this into another batch
+     */
+    private static final int MIN_SESSIONS_PER_BATCH = 16;
+
+    private final GeyserConnector connector;
+    private final ScheduledExecutorService executor;
+    private final int maxBatches;
+
+    private final List<GeyserSession> sessions = new CopyOnWriteArrayList<>();
+
+    /**
+     * The amount of batches of the current tick that haven't finished yet
+     */
+    private final AtomicInteger runningBatches = new AtomicInteger();
+
+    private final Map<TickPhase, PhaseTimings> timings = new EnumMap<>(TickPhase.class);
+
+    /**
+     * How many ticks were skipped because the previous tick was still running
+     */
+    @Getter
+    private final LongAdder skippedTicks = new LongAdder();
+
+    private ScheduledFuture<?> tickFuture;
+
+    public SessionTickManager(GeyserConnector connector, ScheduledExecutorService executor) {
+        this.connector = connector;
+        this.executor = executor;
+        this.maxBatches = Math.max(1, Runtime.getRuntime().availableProcessors());
+        for (TickPhase phase : TickPhase.values()) {
+            timings.put(phase, new PhaseTimings());
+        }
+    }
+
+    public void start() {
+        tickFuture = executor.scheduleAtFixedRate(this::tick, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        if (tickFuture != null) {
+            tickFuture.cancel(false);
+        }
+        sessions.clear();
+    }
+
+    public void addSession(GeyserSession session) {
+        sessions.add(session);
+    }
+
+    public void removeSession(GeyserSession session) {
+        sessions.remove(session);
+    }
+
+    /**
+     * @param phase the tick phase to get the timings of
+     * @return the timings of this phase since startup
+     */
+    public PhaseTimings getTimings(TickPhase phase) {
+        return timings.get(phase);
+    }
+
+    private void tick() {
+        if (runningBatches.get() > 0) {
+            // Don't let ticks pile up if the previous one is still running
+            skippedTicks.increment();
+            return;
+        }
+
+        GeyserSession[] snapshot = sessions.toArray(new GeyserSession[0]);
+        if (snapshot.length == 0) {
+            return;
+        }
+
+        int batches = Math.min(maxBatches, (snapshot.length + MIN_SESSIONS_PER_BATCH - 1) / MIN_SESSIONS_PER_BATCH);
+        int batchSize = (snapshot.length + batches - 1) / batches;
+        runningBatches.set(batches);
+
+        // Run the last batch on this thread
+        for (int batch = 0; batch < batches - 1; batch++) {
+            int start = batch * batchSize;
+            executor.execute(() -> tickBatch(snapshot, start, Math.min(start + batchSize, snapshot.length)));
+        }
+        tickBatch(snapshot, (batches - 1) * batchSize, snapshot.length);
+    }
+
+    private void tickBatch(GeyserSession[] snapshot, int start, int end) {
+        try {
+            for (int i = start; i < end; i++) {
+                GeyserSession session = snapshot[i];
+                if (session.isClosed()) {
+                    continue;
+                }
+
+                try {
+                    long startTime = System.nanoTime();
+                    session.tick();
+                    long sessionTime = System.nanoTime();
+                    timings.get(TickPhase.SESSION).record(sessionTime - startTime);
+
+                    WorldCache worldCache = session.getWorldCache();
+                    if (worldCache != null) {
+                        worldCache.getScoreboardUpdater().tick();
+                        timings.get(TickPhase.SCOREBOARD).record(System.nanoTime() - sessionTime);
+                    }
+
+                    // Everything sent during the tick goes out in one batch
+                    session.getUpstream().flush();
+                } catch (Throwable t) {
+                    connector.getLogger().error("Error while ticking session " + session.getName(), t);
+                }
+            }
+        } finally {
+            runningBatches.decrementAndGet();
+        }
+    }
+
+    public enum TickPhase {
+        /**
+         * {@link GeyserSession#tick()}, including tickable entities
+         */
+        SESSION,
+        /**
+         * Scoreboard flushes from {@link org.geysermc.connector.scoreboard.ScoreboardUpdater}
+         */
+        SCOREBOARD
+    }
+
+    /**
+     * Accumulated time spent in a {@link TickPhase}, summed over all sessions.
+     */
+    public static class PhaseTimings {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+
+        private void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+
+        public double getTotalMillis() {
+            return getTotalNanos() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+
+        /**
+         * @return the average time in microseconds this phase took for one session
+         */
+        public double getAverageMicros() {
+            long count = getCount();
+            return count == 0 ? 0 : getTotalNanos() / (double) count / TimeUnit.MICROSECONDS.toNanos(1);
+        }
+    }
+}
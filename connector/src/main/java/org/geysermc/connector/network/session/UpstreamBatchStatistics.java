@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2019-2021 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.connector.network.session;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps track of the batches sent to Bedrock players by {@link UpstreamSession}, across all sessions.
+ */
+public class UpstreamBatchStatistics {
+    /**
+     * One in this many batches is also serialized without compression, to estimate the compression ratio
+     */
+    static final int COMPRESSION_SAMPLE_RATE = 100;
+
+    /**
+     * Counts calls to {@link #shouldSample()} on its own, so concurrent flushes each see a different number
+     */
+    private static final AtomicLong SAMPLE_COUNTER = new AtomicLong();
+
+    private static final LongAdder BATCHES = new LongAdder();
+    private static final LongAdder PACKETS = new LongAdder();
+    private static final LongAdder COMPRESSED_BYTES = new LongAdder();
+    private static final LongAdder SAMPLED_UNCOMPRESSED_BYTES = new LongAdder();
+    private static final LongAdder SAMPLED_COMPRESSED_BYTES = new LongAdder();
+
+    static void recordBatch(int packets, int compressedBytes) {
+        BATCHES.increment();
+        PACKETS.add(packets);
+        COMPRESSED_BYTES.add(compressedBytes);
+    }
+
+    static void recordSample(int uncompressedBytes, int compressedBytes) {
+        SAMPLED_UNCOMPRESSED_BYTES.add(uncompressedBytes);
+        SAMPLED_COMPRESSED_BYTES.add(compressedBytes);
+    }
+
+    /**
+     * @return whether the batch about to be recorded should be sampled for the compression ratio
+     */
+    static boolean shouldSample() {
+        return SAMPLE_COUNTER.getAndIncrement() % COMPRESSION_SAMPLE_RATE == 0;
+    }
+
+    public static long getBatches() {
+        return BATCHES.sum();
+    }
+
+    public static long getPackets() {
+        return PACKETS.sum();
+    }
+
+    public static double getAveragePacketsPerBatch() {
+        long batches = BATCHES.sum();
+        return batches == 0 ? 0 : PACKETS.sum() / (double) batches;
+    }
+
+    public static double getAverageBytesPerBatch() {
+        long batches = BATCHES.sum();
+        return batches == 0 ? 0 : COMPRESSED_BYTES.sum() / (double) batches;
+    }
+
+    /**
+     * @return the uncompressed size of sampled batches divided by their compressed size, or 0 if nothing was sampled yet
+     */
+    public static double getCompressionRatio() {
+        long compressed = SAMPLED_COMPRESSED_BYTES.sum();
+        return compressed == 0 ? 0 : SAMPLED_UNCOMPRESSED_BYTES.sum() / (double) compressed;
+    }
+}
@@ -26,13 +26,23 @@
 package org.geysermc.connector.network.session;
 
 import com.nukkitx.protocol.bedrock.BedrockPacket;
+import com.nukkitx.protocol.bedrock.BedrockPacketCodec;
 import com.nukkitx.protocol.bedrock.BedrockServerSession;
+import com.nukkitx.protocol.bedrock.wrapper.BedrockWrapperSerializer;
+import com.nukkitx.protocol.bedrock.wrapper.BedrockWrapperSerializers;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.geysermc.connector.GeyserConnector;
 
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
 
 @RequiredArgsConstructor
 public class UpstreamSession {
@@ -40,19 +50,110 @@ public class UpstreamSession {
     @Getter @Setter
     private boolean initialized = false;
 
+    /**
+     * The most packets in one batch. If 0 or lower, packets are passed straight to the protocol library,
+     * which batches them on its own.
+     */
+    private final int maxBatchSize = GeyserConnector.getInstance().getConfig().getUpstreamBatchSize();
+    /**
+     * The longest a packet is held back before its batch is sent, in milliseconds
+     */
+    private final int maxBatchDelay = GeyserConnector.getInstance().getConfig().getUpstreamBatchDelay();
+    /**
+     * Packets waiting for the next batch. Also locked on while a batch is sent, so batches are sent in order.
+     */
+    private final List<BedrockPacket> queuedPackets = new ArrayList<>();
+    private boolean flushScheduled = false;
+
     public void sendPacket(@NonNull BedrockPacket packet) {
-        if (!isClosed()) {
+        if (isClosed()) {
+            return;
+        }
+        if (maxBatchSize <= 0) {
             session.sendPacket(packet);
+            return;
+        }
+
+        boolean scheduleFlush = false;
+        synchronized (queuedPackets) {
+            queuedPackets.add(packet);
+            if (queuedPackets.size() >= maxBatchSize) {
+                flush();
+            } else if (!flushScheduled) {
+                flushScheduled = scheduleFlush = true;
+            }
+        }
+        if (scheduleFlush) {
+            GeyserConnector.getInstance().getGeneralThreadPool().schedule(this::flush, maxBatchDelay, TimeUnit.MILLISECONDS);
         }
     }
 
     public void sendPacketImmediately(@NonNull BedrockPacket packet) {
         if (!isClosed()) {
+            // Anything queued before has to arrive first
+            flush();
             session.sendPacketImmediately(packet);
         }
     }
 
+    /**
+     * Sends an already serialized and compressed batch of packets immediately.
+     *
+     * @param compressed the batch, released once sent
+     */
+    public void sendWrapped(@NonNull ByteBuf compressed) {
+        if (!isClosed()) {
+            flush();
+            session.sendWrapped(compressed, true);
+        } else {
+            compressed.release();
+        }
+    }
+
+    /**
+     * Sends every queued packet as one compressed batch. Called once Geyser is done with a read from the Java server,
+     * at the end of every tick, and when a batch is full or has waited for too long.
+     */
+    public void flush() {
+        synchronized (queuedPackets) {
+            flushScheduled = false;
+            if (queuedPackets.isEmpty()) {
+                return;
+            }
+            if (isClosed()) {
+                queuedPackets.clear();
+                return;
+            }
+
+            BedrockPacketCodec codec = session.getPacketCodec();
+            BedrockWrapperSerializer serializer = BedrockWrapperSerializers.getSerializer(codec.getRaknetProtocolVersion());
+            ByteBuf compressed = ByteBufAllocator.DEFAULT.ioBuffer();
+            try {
+                serializer.serialize(compressed, codec, queuedPackets, Deflater.DEFAULT_COMPRESSION, session);
+
+                if (UpstreamBatchStatistics.shouldSample()) {
+                    ByteBuf uncompressed = ByteBufAllocator.DEFAULT.ioBuffer();
+                    try {
+                        serializer.serialize(uncompressed, codec, queuedPackets, Deflater.NO_COMPRESSION, session);
+                        UpstreamBatchStatistics.recordSample(uncompressed.readableBytes(), compressed.readableBytes());
+                    } finally {
+                        uncompressed.release();
+                    }
+                }
+                UpstreamBatchStatistics.recordBatch(queuedPackets.size(), compressed.readableBytes());
+            } catch (RuntimeException e) {
+                compressed.release();
+                throw e;
+            } finally {
+                queuedPackets.clear();
+            }
+            session.sendWrapped(compressed, true);
+        }
+    }
+
     public void disconnect(String reason) {
+        // Send whatever is left first, such as chat messages explaining the disconnect
+        flush();
         session.disconnect(reason);
     }
 
@@ -65,7 +65,7 @@ public class EntityCache {
         if (cacheEntity(entity)) {
             entity.spawnEntity(session);
 
-            if (entity instanceof Tickable) {
+            if (entity instanceof Tickable && ((Tickable) entity).shouldTick()) {
                 // Start ticking it
                 tickableEntities.add((Tickable) entity);
             }
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2019-2021 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.connector.network.session.cache;
+
+import com.github.steveice10.mc.auth.data.GameProfile;
+import com.nukkitx.math.vector.Vector3f;
+import com.nukkitx.math.vector.Vector3i;
+import com.nukkitx.protocol.bedrock.data.entity.EntityFlag;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import lombok.RequiredArgsConstructor;
+import org.geysermc.connector.entity.player.SkullPlayerEntity;
+import org.geysermc.connector.network.session.GeyserSession;
+import org.geysermc.connector.skin.SkullSkinManager;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps track of every custom skull in the loaded chunks, but only shows the nearest ones to the player as entities.
+ * Skulls further away than the configured distance, or beyond the configured amount, are despawned until the player
+ * comes closer again.
+ */
+public class SkullCache {
+    /**
+     * Visible skulls are only recalculated once the player has moved this far (squared)
+     */
+    private static final float UPDATE_DISTANCE_SQUARED = 4f;
+
+    private final GeyserSession session;
+    private final int maxVisibleSkulls;
+    private final float renderDistanceSquared;
+
+    private final Map<Vector3i, Skull> skulls = new Object2ObjectOpenHashMap<>();
+    private final List<Skull> inRangeSkulls = new ArrayList<>();
+    private int visibleSkulls;
+    /**
+     * If a skull has been added or removed without the visible skulls being recalculated
+     */
+    private boolean dirty;
+    private Vector3f lastPlayerPosition;
+
+    public SkullCache(GeyserSession session) {
+        this.session = session;
+        this.maxVisibleSkulls = session.getConnector().getConfig().getMaxVisibleCustomSkulls();
+        int renderDistance = session.getConnector().getConfig().getCustomSkullRenderDistance();
+        this.renderDistanceSquared = renderDistance * renderDistance;
+    }
+
+    public synchronized void putSkull(Vector3i position, GameProfile profile, int blockState, Vector3f entityPosition, Vector3f rotation) {
+        Skull skull = new Skull(profile, blockState, entityPosition, rotation);
+        Skull existingSkull = skulls.put(position, skull);
+        if (existingSkull != null) {
+            // Ensure that two skulls can't spawn on the same point
+            despawnSkull(existingSkull);
+        }
+
+        if (session.getUpstream().isInitialized() && visibleSkulls < maxVisibleSkulls
+                && entityPosition.distanceSquared(session.getPlayerEntity().getPosition()) <= renderDistanceSquared) {
+            spawnSkull(skull);
+        } else {
+            // It may still be closer than one of the visible skulls
+            dirty = true;
+        }
+    }
+
+    public synchronized void removeSkull(Vector3i position) {
+        Skull skull = skulls.remove(position);
+        if (skull != null) {
+            despawnSkull(skull);
+            dirty = true;
+        }
+    }
+
+    /**
+     * Removes the skull at this position if the block there is no longer the same skull.
+     */
+    public synchronized void updateBlockState(Vector3i position, int blockState) {
+        Skull skull = skulls.get(position);
+        if (skull != null && skull.blockState != blockState) {
+            removeSkull(position);
+        }
+    }
+
+    public synchronized void removeChunk(int chunkX, int chunkZ) {
+        Iterator<Map.Entry<Vector3i, Skull>> iterator = skulls.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Vector3i, Skull> entry = iterator.next();
+            Vector3i position = entry.getKey();
+            if ((position.getX() >> 4) == chunkX && (position.getZ() >> 4) == chunkZ) {
+                despawnSkull(entry.getValue());
+                iterator.remove();
+                dirty = true;
+            }
+        }
+    }
+
+    /**
+     * Spawns the nearest skulls and despawns the ones that are now too far away. Does nothing if the player hasn't
+     * moved much since the last update and no skulls were added or removed.
+     */
+    public synchronized void updateVisibleSkulls() {
+        if (!session.getUpstream().isInitialized() || skulls.isEmpty()) {
+            return;
+        }
+
+        Vector3f playerPosition = session.getPlayerEntity().getPosition();
+        if (!dirty && lastPlayerPosition != null && playerPosition.distanceSquared(lastPlayerPosition) < UPDATE_DISTANCE_SQUARED) {
+            return;
+        }
+        dirty = false;
+        lastPlayerPosition = playerPosition;
+
+        for (Skull skull : skulls.values()) {
+            skull.distanceSquared = skull.position.distanceSquared(playerPosition);
+            if (skull.distanceSquared <= renderDistanceSquared) {
+                inRangeSkulls.add(skull);
+            } else {
+                despawnSkull(skull);
+            }
+        }
+
+        if (inRangeSkulls.size() > maxVisibleSkulls) {
+            // Nearest first; despawn the rest before spawning so we never go over the limit
+            inRangeSkulls.sort(Comparator.comparingDouble(skull -> skull.distanceSquared));
+            for (int i = maxVisibleSkulls; i < inRangeSkulls.size(); i++) {
+                despawnSkull(inRangeSkulls.get(i));
+            }
+        }
+
+        for (int i = 0; i < Math.min(maxVisibleSkulls, inRangeSkulls.size()); i++) {
+            spawnSkull(inRangeSkulls.get(i));
+        }
+        inRangeSkulls.clear();
+    }
+
+    /**
+     * Forgets every skull without despawning them - used when switching dimensions.
+     */
+    public synchronized void clear() {
+        skulls.clear();
+        visibleSkulls = 0;
+        dirty = false;
+        lastPlayerPosition = null;
+    }
+
+    public synchronized int getVisibleSkulls() {
+        return visibleSkulls;
+    }
+
+    private void spawnSkull(Skull skull) {
+        if (skull.entity != null) {
+            return;
+        }
+
+        long geyserId = session.getEntityCache().getNextEntityId().incrementAndGet();
+        SkullPlayerEntity entity = new SkullPlayerEntity(skull.profile, geyserId, skull.position, skull.rotation);
+        skull.entity = entity;
+        visibleSkulls++;
+
+        entity.spawnEntity(session);
+        SkullSkinManager.requestAndHandleSkin(entity, session, (skin -> session.getConnector().getGeneralThreadPool().schedule(() -> {
+            if (!entity.isValid()) {
+                return;
+            }
+            // Delay to minimize split-second "player" pop-in
+            entity.getMetadata().getFlags().setFlag(EntityFlag.INVISIBLE, false);
+            entity.updateBedrockMetadata(session);
+        }, 250, TimeUnit.MILLISECONDS)));
+    }
+
+    private void despawnSkull(Skull skull) {
+        if (skull.entity != null) {
+            skull.entity.despawnEntity(session);
+            skull.entity = null;
+            visibleSkulls--;
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class Skull {
+        private final GameProfile profile;
+        private final int blockState;
+        private final Vector3f position;
+        private final Vector3f rotation;
+
+        private float distanceSquared;
+        /**
+         * The entity representing this skull, or null if it isn't shown to the player at the moment
+         */
+        private SkullPlayerEntity entity;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2019-2021 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.connector.network.session.cache;
+
+import com.github.steveice10.mc.protocol.data.game.world.map.MapData;
+import com.nukkitx.protocol.bedrock.data.MapDecoration;
+import com.nukkitx.protocol.bedrock.data.MapTrackedObject;
+import com.nukkitx.protocol.bedrock.packet.ClientboundMapItemDataPacket;
+import lombok.Getter;
+import lombok.Setter;
+import org.geysermc.connector.utils.MapImageCache;
+import org.geysermc.connector.utils.MapImageCache.MapImage;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The latest state of a map as seen by one session, sent again when the Bedrock client requests the map.
+ */
+public class StoredMap {
+    /**
+     * Every int entry is an ABGR color. Belongs to the shared {@link MapImage} until a partial update is applied.
+     */
+    private int[] colors;
+    private boolean shared;
+
+    @Getter @Setter private int scale;
+    @Getter @Setter private boolean locked;
+    @Getter @Setter private List<MapDecoration> decorations = Collections.emptyList();
+    @Getter @Setter private List<MapTrackedObject> trackedObjects = Collections.emptyList();
+
+    public StoredMap(MapImage image) {
+        setImage(image);
+    }
+
+    /**
+     * Replace the whole image with a shared one.
+     *
+     * @param image the image received in a full map update
+     */
+    public void setImage(MapImage image) {
+        this.colors = image.getColors();
+        this.shared = true;
+    }
+
+    /**
+     * Apply a partial map update. The shared image is only copied for the first update after a full image,
+     * so animated maps patch the same private copy afterwards.
+     *
+     * @param data the partial map data
+     */
+    public void patch(MapData data) {
+        if (shared) {
+            colors = Arrays.copyOf(colors, colors.length);
+            shared = false;
+        }
+        MapImageCache.patch(colors, data);
+    }
+
+    /**
+     * @param mapId the Bedrock map ID
+     * @param dimensionId the Bedrock dimension the session is in
+     * @return a packet that displays this map as it was last received
+     */
+    public ClientboundMapItemDataPacket toPacket(long mapId, int dimensionId) {
+        ClientboundMapItemDataPacket mapPacket = new ClientboundMapItemDataPacket();
+        mapPacket.setUniqueMapId(mapId);
+        mapPacket.setDimensionId(dimensionId);
+        mapPacket.setScale(scale);
+        mapPacket.setLocked(locked);
+        mapPacket.setWidth(MapImageCache.MAP_SIZE);
+        mapPacket.setHeight(MapImageCache.MAP_SIZE);
+        mapPacket.setColors(colors);
+        mapPacket.getDecorations().addAll(decorations);
+        mapPacket.getTrackedObjects().addAll(trackedObjects);
+        return mapPacket;
+    }
+}
@@ -47,7 +47,6 @@ public class WorldCache {
         this.session = session;
         this.scoreboard = new Scoreboard(session);
         scoreboardUpdater = new ScoreboardUpdater(this);
-        scoreboardUpdater.start();
     }
 
     public void removeScoreboard() {
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2019-2021 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.connector.network.translators;
+
+import lombok.Getter;
+import org.geysermc.connector.network.session.GeyserSession;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records how often each packet is translated, how long its translator takes and how many Bedrock packets it results in.
+ * Disabled by default, since timing every packet isn't free - turn it on with <code>/geyser profiler start</code>.
+ */
+public class PacketProfiler {
+    /**
+     * The Java or Bedrock packet currently being translated on this thread, so packets sent upstream can be attributed to it
+     */
+    private static final ThreadLocal<Class<?>> CURRENT_PACKET = new ThreadLocal<>();
+
+    @Getter
+    private static final PacketStatistics globalStatistics = new PacketStatistics();
+
+    @Getter
+    private static volatile boolean enabled = false;
+
+    public static void setEnabled(boolean enabled) {
+        PacketProfiler.enabled = enabled;
+    }
+
+    /**
+     * Clear all recorded statistics
+     */
+    public static void reset(Collection<GeyserSession> sessions) {
+        globalStatistics.clear();
+        for (GeyserSession session : sessions) {
+            session.getPacketStatistics().clear();
+        }
+    }
+
+    /**
+     * Translate a packet while recording how long it takes.
+     */
+    static <P> void translate(PacketTranslator<P> translator, Class<?> packetClass, P packet, GeyserSession session) {
+        CURRENT_PACKET.set(packetClass);
+        long startTime = System.nanoTime();
+        try {
+            translator.translate(packet, session);
+        } finally {
+            long time = System.nanoTime() - startTime;
+            CURRENT_PACKET.remove();
+            globalStatistics.get(packetClass).recordTranslation(time);
+            session.getPacketStatistics().get(packetClass).recordTranslation(time);
+        }
+    }
+
+    /**
+     * Called for every packet sent to the Bedrock client.
+     */
+    public static void onUpstreamPacket(GeyserSession session) {
+        Class<?> packetClass = CURRENT_PACKET.get();
+        if (packetClass != null) {
+            globalStatistics.get(packetClass).upstreamPackets.increment();
+            session.getPacketStatistics().get(packetClass).upstreamPackets.increment();
+        }
+    }
+
+    /**
+     * The statistics of every packet type, either of one session or of all of them.
+     */
+    public static class PacketStatistics {
+        private final Map<Class<?>, PacketTimings> timings = new ConcurrentHashMap<>();
+
+        PacketTimings get(Class<?> packetClass) {
+            return timings.computeIfAbsent(packetClass, PacketTimings::new);
+        }
+
+        public void clear() {
+            timings.clear();
+        }
+
+        /**
+         * @param limit the maximum amount of packet types to return
+         * @return the packet types that took the most time in total, most expensive first
+         */
+        public List<PacketTimings> getMostExpensive(int limit) {
+            List<PacketTimings> sorted = new ArrayList<>(timings.values());
+            sorted.sort(Comparator.comparingLong(PacketTimings::getTotalNanos).reversed());
+            return sorted.subList(0, Math.min(limit, sorted.size()));
+        }
+    }
+
+    /**
+     * Timings of one packet type. Translation times are sorted into power-of-two buckets, so percentiles
+     * are accurate to a factor of two while recording stays cheap.
+     */
+    public static class PacketTimings {
+        @Getter
+        private final Class<?> packetClass;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder upstreamPackets = new LongAdder();
+        private final AtomicLongArray buckets = new AtomicLongArray(64);
+
+        private PacketTimings(Class<?> packetClass) {
+            this.packetClass = packetClass;
+        }
+
+        private void recordTranslation(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            buckets.incrementAndGet(63 - Long.numberOfLeadingZeros(Math.max(1, nanos)));
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+
+        /**
+         * @return how many Bedrock packets were sent while translating packets of this type
+         */
+        public long getUpstreamPackets() {
+            return upstreamPackets.sum();
+        }
+
+        public double getTotalMillis() {
+            return getTotalNanos() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+
+        public double getAverageMicros() {
+            long count = getCount();
+            return count == 0 ? 0 : getTotalNanos() / (double) count / TimeUnit.MICROSECONDS.toNanos(1);
+        }
+
+        /**
+         * @param percentile the percentile to get, from 0 to 100
+         * @return the upper bound of the translation time at this percentile, in microseconds
+         */
+        public double getPercentileMicros(double percentile) {
+            long total = 0;
+            for (int i = 0; i < buckets.length(); i++) {
+                total += buckets.get(i);
+            }
+            if (total == 0) {
+                return 0;
+            }
+
+            long target = (long) Math.ceil(percentile / 100 * total);
+            long seen = 0;
+            for (int i = 0; i < buckets.length(); i++) {
+                seen += buckets.get(i);
+                if (seen >= target) {
+                    return (1L << Math.min(62, i + 1)) / (double) TimeUnit.MICROSECONDS.toNanos(1);
+                }
+            }
+            return Long.MAX_VALUE / (double) TimeUnit.MICROSECONDS.toNanos(1);
+        }
+    }
+}
@@ -92,7 +92,11 @@ public class PacketTranslatorRegistry<T> {
             try {
                 PacketTranslator<P> translator = (PacketTranslator<P>) translators.get(clazz);
                 if (translator != null) {
-                    translator.translate(packet, session);
+                    if (PacketProfiler.isEnabled()) {
+                        PacketProfiler.translate(translator, clazz, packet, session);
+                    } else {
+                        translator.translate(packet, session);
+                    }
                     return true;
                 } else {
                     if ((GeyserConnector.getInstance().getPlatformType() != PlatformType.STANDALONE || !(packet instanceof BedrockPacket)) && !IGNORED_PACKETS.contains(clazz)) {
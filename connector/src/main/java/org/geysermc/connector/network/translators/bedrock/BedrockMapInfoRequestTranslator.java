@@ -25,12 +25,13 @@
 
 package org.geysermc.connector.network.translators.bedrock;
 
-import com.nukkitx.protocol.bedrock.packet.ClientboundMapItemDataPacket;
 import com.nukkitx.protocol.bedrock.packet.MapInfoRequestPacket;
 import org.geysermc.connector.GeyserConnector;
 import org.geysermc.connector.network.session.GeyserSession;
+import org.geysermc.connector.network.session.cache.StoredMap;
 import org.geysermc.connector.network.translators.PacketTranslator;
 import org.geysermc.connector.network.translators.Translator;
+import org.geysermc.connector.utils.DimensionUtils;
 
 import java.util.concurrent.TimeUnit;
 
@@ -44,9 +45,9 @@ public class BedrockMapInfoRequestTranslator extends PacketTranslator<MapInfoReq
         if (session.getStoredMaps().containsKey(mapID)) {
             // Delay the packet 100ms to prevent the client from ignoring the packet
             GeyserConnector.getInstance().getGeneralThreadPool().schedule(() -> {
-                ClientboundMapItemDataPacket mapPacket = session.getStoredMaps().remove(mapID);
-                if (mapPacket != null) {
-                    session.sendUpstreamPacket(mapPacket);
+                StoredMap storedMap = session.getStoredMaps().get(mapID);
+                if (storedMap != null) {
+                    session.sendUpstreamPacket(storedMap.toPacket(mapID, DimensionUtils.javaToBedrock(session.getDimension())));
                 }
             }, 100, TimeUnit.MILLISECONDS);
         }
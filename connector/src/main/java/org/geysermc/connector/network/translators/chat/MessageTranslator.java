@@ -27,6 +27,9 @@ package org.geysermc.connector.network.translators.chat;
 
 import com.github.steveice10.mc.protocol.data.DefaultComponentSerializer;
 import com.github.steveice10.mc.protocol.data.game.scoreboard.TeamColor;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.Value;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextDecoration;
@@ -37,10 +40,12 @@ import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.geysermc.connector.GeyserConnector;
 import org.geysermc.connector.network.session.GeyserSession;
 import org.geysermc.connector.utils.LanguageUtils;
+import org.geysermc.connector.utils.LocaleUtils;
 
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 public class MessageTranslator {
 
@@ -57,11 +62,19 @@ public class MessageTranslator {
     private static final Map<TeamColor, TextDecoration> TEAM_FORMATS = new HashMap<>();
 
     // Legacy formatting character
-    private static final String BASE = "\u00a7";
+    private static final char BASE_CHAR = '\u00a7';
+    private static final String BASE = String.valueOf(BASE_CHAR);
 
     // Reset character
     private static final String RESET = BASE + "r";
 
+    // Rendered messages for each locale, so broadcasts are only rendered once for every session.
+    // Keyed by the locale translations actually came from, as a player's locale may still be loading
+    private static final Cache<RenderedMessageKey, String> RENDERED_MESSAGES = CacheBuilder.newBuilder()
+            .maximumSize(2048)
+            .expireAfterWrite(1, TimeUnit.MINUTES)
+            .build();
+
     static {
         TEAM_FORMATS.put(TeamColor.OBFUSCATED, TextDecoration.OBFUSCATED);
         TEAM_FORMATS.put(TeamColor.BOLD, TextDecoration.BOLD);
@@ -81,19 +94,15 @@ public class MessageTranslator {
      */
     public static String convertMessage(Component message, String locale) {
         try {
-            // Get a Locale from the given locale string
-            Locale localeCode = Locale.forLanguageTag(locale.replace('_', '-'));
-            message = RENDERER.render(message, localeCode);
-
-            String legacy = LegacyComponentSerializer.legacySection().serialize(message);
-
-            // Strip strikethrough and underline as they are not supported on bedrock
-            legacy = legacy.replaceAll("\u00a7[mn]", "");
-
-            // Make color codes reset formatting like Java
-            // See https://minecraft.gamepedia.com/Formatting_codes#Usage
-            legacy = legacy.replaceAll("\u00a7([0-9a-f])", "\u00a7r\u00a7$1");
-            legacy = legacy.replaceAll("\u00a7r\u00a7r", "\u00a7r");
+            // Broadcasts are sent to every session; only render them once per locale
+            // Render with the same locale as the key, in case the player's locale finishes loading in between
+            String effectiveLocale = LocaleUtils.getEffectiveLocale(locale);
+            RenderedMessageKey key = new RenderedMessageKey(message, effectiveLocale);
+            String legacy = RENDERED_MESSAGES.getIfPresent(key);
+            if (legacy == null) {
+                legacy = renderMessage(message, effectiveLocale);
+                RENDERED_MESSAGES.put(key, legacy);
+            }
 
             return legacy;
         } catch (Exception e) {
@@ -105,7 +114,70 @@ public class MessageTranslator {
     }
 
     public static String convertMessage(String message, String locale) {
-        return convertMessage(GSON_SERIALIZER.deserialize(message), locale);
+        // Skip deserializing the JSON if we already rendered this exact message
+        RenderedMessageKey key = new RenderedMessageKey(message, LocaleUtils.getEffectiveLocale(locale));
+        String legacy = RENDERED_MESSAGES.getIfPresent(key);
+        if (legacy == null) {
+            legacy = convertMessage(GSON_SERIALIZER.deserialize(message), locale);
+            RENDERED_MESSAGES.put(key, legacy);
+        }
+
+        return legacy;
+    }
+
+    private static String renderMessage(Component message, String locale) {
+        // Get a Locale from the given locale string
+        Locale localeCode = Locale.forLanguageTag(locale.replace('_', '-'));
+        message = RENDERER.render(message, localeCode);
+
+        String legacy = LegacyComponentSerializer.legacySection().serialize(message);
+        return toBedrockFormatting(legacy);
+    }
+
+    /**
+     * Adjust legacy formatting codes for Bedrock in a single pass over the message.
+     * Strikethrough and underline are stripped as they are not supported on Bedrock,
+     * and color codes reset formatting like Java.
+     * See https://minecraft.gamepedia.com/Formatting_codes#Usage
+     *
+     * @param legacy the message in the legacy section format
+     * @return the message with Bedrock compatible formatting
+     */
+    static String toBedrockFormatting(String legacy) {
+        int length = legacy.length();
+        StringBuilder builder = new StringBuilder(length + 16);
+        for (int i = 0; i < length; i++) {
+            char c = legacy.charAt(i);
+            if (c != BASE_CHAR || i + 1 >= length || legacy.charAt(i + 1) == BASE_CHAR) {
+                builder.append(c);
+                continue;
+            }
+
+            char code = legacy.charAt(++i);
+            if (code == 'm' || code == 'n') {
+                continue;
+            }
+
+            boolean color = (code >= '0' && code <= '9') || (code >= 'a' && code <= 'f');
+            if (color || code == 'r') {
+                // Don't send two resets in a row
+                if (!endsWithReset(builder)) {
+                    builder.append(RESET);
+                }
+                if (color) {
+                    builder.append(BASE_CHAR).append(code);
+                }
+                continue;
+            }
+
+            builder.append(BASE_CHAR).append(code);
+        }
+        return builder.toString();
+    }
+
+    private static boolean endsWithReset(StringBuilder builder) {
+        int length = builder.length();
+        return length >= 2 && builder.charAt(length - 2) == BASE_CHAR && builder.charAt(length - 1) == 'r';
     }
 
     public static String convertMessage(String message) {
@@ -270,4 +342,13 @@ public class MessageTranslator {
 
         return false;
     }
+
+    /**
+     * A message - either a {@link Component} or its raw JSON - and the locale it was rendered for
+     */
+    @Value
+    private static class RenderedMessageKey {
+        Object message;
+        String locale;
+    }
 }
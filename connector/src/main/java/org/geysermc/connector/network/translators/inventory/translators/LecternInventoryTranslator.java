@@ -30,6 +30,8 @@ import com.github.steveice10.mc.protocol.packet.ingame.client.window.ClientClick
 import com.github.steveice10.mc.protocol.packet.ingame.client.window.ClientCloseWindowPacket;
 import com.github.steveice10.opennbt.tag.builtin.CompoundTag;
 import com.github.steveice10.opennbt.tag.builtin.ListTag;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.nukkitx.math.vector.Vector3i;
 import com.nukkitx.nbt.NbtMap;
 import com.nukkitx.nbt.NbtMapBuilder;
@@ -44,9 +46,17 @@ import org.geysermc.connector.network.translators.inventory.updater.InventoryUpd
 import org.geysermc.connector.utils.BlockEntityUtils;
 import org.geysermc.connector.utils.InventoryUtils;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 public class LecternInventoryTranslator extends BaseInventoryTranslator {
+    private static final Cache<List<String>, NbtMap> BOOK_TAGS = CacheBuilder.newBuilder()
+            .maximumSize(256)
+            .expireAfterAccess(10, TimeUnit.MINUTES)
+            .build();
+
     private final InventoryUpdater updater;
 
     public LecternInventoryTranslator() {
@@ -123,12 +133,7 @@ public class LecternInventoryTranslator extends BaseInventoryTranslator {
                             .putByte("Count", (byte) 1)
                             .putShort("Damage", (short) 0)
                             .putString("Name", "minecraft:writable_book")
-                            .putCompound("tag", NbtMap.builder().putList("pages", NbtType.COMPOUND, Collections.singletonList(
-                                    NbtMap.builder()
-                                        .putString("photoname", "")
-                                        .putString("text", "")
-                                    .build()
-                            )).build());
+                            .putCompound("tag", getBookTag(Collections.emptyList()));
 
                     blockEntityTag = lecternTag.putCompound("book", bookTag.build()).build();
                 }
@@ -173,4 +178,34 @@ public class LecternInventoryTranslator extends BaseInventoryTranslator {
     private static class LecternInventoryUpdater extends InventoryUpdater {
 
     }
+
+    /**
+     * Builds the Bedrock pages of a writable book. Identical books are common on servers (rules, guides), so the pages
+     * are shared between every lectern and session showing them.
+     *
+     * @param pages the plain text of each page
+     * @return the book's tag with its pages; a single empty page if there are no pages
+     */
+    public static NbtMap getBookTag(List<String> pages) {
+        NbtMap bookTag = BOOK_TAGS.getIfPresent(pages);
+        if (bookTag == null) {
+            List<NbtMap> pageTags = new ArrayList<>(Math.max(1, pages.size()));
+            for (String page : pages) {
+                pageTags.add(NbtMap.builder()
+                        .putString("photoname", "")
+                        .putString("text", page)
+                        .build());
+            }
+            if (pageTags.isEmpty()) {
+                // Empty page
+                pageTags.add(NbtMap.builder()
+                        .putString("photoname", "")
+                        .putString("text", "")
+                        .build());
+            }
+            bookTag = NbtMap.builder().putList("pages", NbtType.COMPOUND, pageTags).build();
+            BOOK_TAGS.put(new ArrayList<>(pages), bookTag);
+        }
+        return bookTag;
+    }
 }
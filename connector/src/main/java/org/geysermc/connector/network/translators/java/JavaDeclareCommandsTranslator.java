@@ -28,6 +28,9 @@ package org.geysermc.connector.network.translators.java;
 import com.github.steveice10.mc.protocol.data.game.command.CommandNode;
 import com.github.steveice10.mc.protocol.data.game.command.CommandParser;
 import com.github.steveice10.mc.protocol.packet.ingame.server.ServerDeclareCommandsPacket;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import com.nukkitx.protocol.bedrock.data.command.CommandData;
 import com.nukkitx.protocol.bedrock.data.command.CommandEnumData;
 import com.nukkitx.protocol.bedrock.data.command.CommandParamData;
@@ -41,6 +44,7 @@ import it.unimi.dsi.fastutil.ints.IntSet;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenCustomHashMap;
 import lombok.Getter;
 import lombok.ToString;
+import lombok.Value;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.geysermc.connector.GeyserConnector;
 import org.geysermc.connector.entity.type.EntityType;
@@ -52,6 +56,8 @@ import org.geysermc.connector.network.translators.item.ItemRegistry;
 import org.geysermc.connector.network.translators.world.block.BlockTranslator;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 @Translator(packet = ServerDeclareCommandsPacket.class)
 public class JavaDeclareCommandsTranslator extends PacketTranslator<ServerDeclareCommandsPacket> {
@@ -86,6 +92,16 @@ public class JavaDeclareCommandsTranslator extends PacketTranslator<ServerDeclar
         }
     };
 
+    /**
+     * Players with the same permissions on the same server receive the same command tree, so the translation
+     * is shared between sessions. Packets in here are sent to multiple players and must not be modified.
+     */
+    private static final Cache<CommandTreeKey, AvailableCommandsPacket> TRANSLATED_COMMANDS = CacheBuilder.newBuilder()
+            .maximumSize(32)
+            .expireAfterAccess(10, TimeUnit.MINUTES)
+            .recordStats()
+            .build();
+
     static {
         List<String> validColors = new ArrayList<>(NamedTextColor.NAMES.keys());
         validColors.add("reset");
@@ -110,6 +126,28 @@ public class JavaDeclareCommandsTranslator extends PacketTranslator<ServerDeclar
             return;
         }
 
+        AvailableCommandsPacket availableCommandsPacket;
+        try {
+            availableCommandsPacket = TRANSLATED_COMMANDS.get(new CommandTreeKey(Arrays.asList(packet.getNodes()), packet.getFirstNodeIndex()),
+                    () -> translateCommands(packet, session));
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Unable to translate commands", e.getCause());
+        }
+
+        session.getConnector().getLogger().debug("Sending command packet of " + availableCommandsPacket.getCommands().size() + " commands");
+
+        // Finally, send the commands to the client
+        session.sendUpstreamPacket(availableCommandsPacket);
+    }
+
+    /**
+     * @return the statistics of the translated command tree cache
+     */
+    public static CacheStats getCacheStats() {
+        return TRANSLATED_COMMANDS.stats();
+    }
+
+    private static AvailableCommandsPacket translateCommands(ServerDeclareCommandsPacket packet, GeyserSession session) {
         CommandNode[] nodes = packet.getNodes();
         List<CommandData> commandData = new ArrayList<>();
         IntSet commandNodes = new IntOpenHashSet();
@@ -161,11 +199,7 @@ public class JavaDeclareCommandsTranslator extends PacketTranslator<ServerDeclar
         // Add our commands to the AvailableCommandsPacket for the bedrock client
         AvailableCommandsPacket availableCommandsPacket = new AvailableCommandsPacket();
         availableCommandsPacket.getCommands().addAll(commandData);
-
-        session.getConnector().getLogger().debug("Sending command packet of " + commandData.size() + " commands");
-
-        // Finally, send the commands to the client
-        session.sendUpstreamPacket(availableCommandsPacket);
+        return availableCommandsPacket;
     }
 
     /**
@@ -268,6 +302,15 @@ public class JavaDeclareCommandsTranslator extends PacketTranslator<ServerDeclar
         }
     }
 
+    /**
+     * The structure of a Java command tree. Command nodes compare by value, so identical trees share a key.
+     */
+    @Value
+    private static class CommandTreeKey {
+        List<CommandNode> nodes;
+        int firstNodeIndex;
+    }
+
     /**
      * Stores the command description and parameter data for best optimizing the Bedrock commands packet.
      */
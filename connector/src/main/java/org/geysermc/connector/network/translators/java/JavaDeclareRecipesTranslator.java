@@ -32,20 +32,32 @@ import com.github.steveice10.mc.protocol.data.game.recipe.data.ShapedRecipeData;
 import com.github.steveice10.mc.protocol.data.game.recipe.data.ShapelessRecipeData;
 import com.github.steveice10.mc.protocol.data.game.recipe.data.StoneCuttingRecipeData;
 import com.github.steveice10.mc.protocol.packet.ingame.server.ServerDeclareRecipesPacket;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.nukkitx.nbt.NbtMap;
+import com.nukkitx.protocol.bedrock.BedrockPacketCodec;
 import com.nukkitx.protocol.bedrock.data.inventory.CraftingData;
 import com.nukkitx.protocol.bedrock.data.inventory.ItemData;
 import com.nukkitx.protocol.bedrock.packet.CraftingDataPacket;
+import com.nukkitx.protocol.bedrock.wrapper.BedrockWrapperSerializers;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import it.unimi.dsi.fastutil.ints.*;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
+import lombok.Value;
 import org.geysermc.connector.network.session.GeyserSession;
 import org.geysermc.connector.network.translators.PacketTranslator;
 import org.geysermc.connector.network.translators.Translator;
 import org.geysermc.connector.network.translators.item.*;
+import org.geysermc.connector.utils.LocaleUtils;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.zip.Deflater;
 
 /**
  * Used to send all valid recipes from Java to Bedrock.
@@ -54,9 +66,34 @@ import java.util.stream.Collectors;
  */
 @Translator(packet = ServerDeclareRecipesPacket.class)
 public class JavaDeclareRecipesTranslator extends PacketTranslator<ServerDeclareRecipesPacket> {
+    /**
+     * Every player on the same server receives the same recipes, so the translation is shared between sessions.
+     * Item names may be translated into the player's language, so the locale translations come from is part of the key.
+     */
+    private static final Cache<RecipesKey, TranslatedRecipes> TRANSLATED_RECIPES = CacheBuilder.newBuilder()
+            .maximumSize(8)
+            .expireAfterAccess(10, TimeUnit.MINUTES)
+            .build();
 
     @Override
     public void translate(ServerDeclareRecipesPacket packet, GeyserSession session) {
+        TranslatedRecipes recipes;
+        try {
+            recipes = TRANSLATED_RECIPES.get(new RecipesKey(Arrays.asList(packet.getRecipes()), LocaleUtils.getEffectiveLocale(session.getLocale())),
+                    () -> translateRecipes(packet, session));
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Unable to translate recipes", e.getCause());
+        }
+
+        // The batch and maps are shared - nothing may modify them
+        session.getUpstream().sendWrapped(recipes.getBatch(session).retainedDuplicate());
+        session.setCraftingRecipes(recipes.getCraftingRecipes());
+        session.getUnlockedRecipes().clear();
+        session.setStonecutterRecipes(recipes.getStonecutterRecipes());
+        session.getLastRecipeNetId().set(recipes.getLastNetId());
+    }
+
+    private TranslatedRecipes translateRecipes(ServerDeclareRecipesPacket packet, GeyserSession session) {
         // Get the last known network ID (first used for the pregenerated recipes) and increment from there.
         int netId = RecipeRegistry.LAST_RECIPE_NET_ID + 1;
         Int2ObjectMap<Recipe> recipeMap = new Int2ObjectOpenHashMap<>(RecipeRegistry.ALL_CRAFTING_RECIPES);
@@ -188,11 +225,8 @@ public class JavaDeclareRecipesTranslator extends PacketTranslator<ServerDeclare
             }
         }
 
-        session.sendUpstreamPacket(craftingDataPacket);
-        session.setCraftingRecipes(recipeMap);
-        session.getUnlockedRecipes().clear();
-        session.setStonecutterRecipes(stonecutterRecipeMap);
-        session.getLastRecipeNetId().set(netId);
+        return new TranslatedRecipes(craftingDataPacket, Int2ObjectMaps.unmodifiable(recipeMap),
+                Int2ObjectMaps.unmodifiable(stonecutterRecipeMap), netId);
     }
 
     //TODO: rewrite
@@ -272,6 +306,39 @@ public class JavaDeclareRecipesTranslator extends PacketTranslator<ServerDeclare
         return combinations;
     }
 
+    @Value
+    private static class RecipesKey {
+        List<Recipe> recipes;
+        String locale;
+    }
+
+    @Value
+    private static class TranslatedRecipes {
+        CraftingDataPacket craftingDataPacket;
+        Int2ObjectMap<Recipe> craftingRecipes;
+        Int2ObjectMap<IntList> stonecutterRecipes;
+        int lastNetId;
+        /**
+         * The crafting data packet serialized and compressed, keyed by Bedrock protocol version
+         */
+        Map<Integer, ByteBuf> batches = new ConcurrentHashMap<>();
+
+        /**
+         * @param session the session the batch is sent to
+         * @return the crafting data packet as a compressed batch for the session's protocol version
+         */
+        ByteBuf getBatch(GeyserSession session) {
+            BedrockPacketCodec codec = session.getUpstream().getSession().getPacketCodec();
+            return batches.computeIfAbsent(codec.getProtocolVersion(), version -> {
+                // Heap memory, so batches of evicted recipes are simply garbage collected
+                ByteBuf batch = Unpooled.buffer();
+                BedrockWrapperSerializers.getSerializer(codec.getRaknetProtocolVersion()).serialize(batch, codec,
+                        Collections.singletonList(craftingDataPacket), Deflater.DEFAULT_COMPRESSION, session.getUpstream().getSession());
+                return batch;
+            });
+        }
+    }
+
     @EqualsAndHashCode
     @AllArgsConstructor
     private static class GroupedItem {
@@ -86,7 +86,9 @@ public class JavaPlayerListEntryTranslator extends PacketTranslator<ServerPlayer
                                 GeyserConnector.getInstance().getLogger().debug("Loaded Local Bedrock Java Skin Data for " + session.getClientData().getUsername()));
                     } else {
                         playerEntity.setValid(true);
-                        PlayerListPacket.Entry playerListEntry = SkinManager.buildCachedEntry(session, playerEntity);
+                        PlayerListPacket.Entry playerListEntry = SkinManager.LAZY_SKINS ?
+                                SkinManager.buildPlaceholderEntry(session, playerEntity) :
+                                SkinManager.buildCachedEntry(session, playerEntity);
 
                         translate.getEntries().add(playerListEntry);
                     }
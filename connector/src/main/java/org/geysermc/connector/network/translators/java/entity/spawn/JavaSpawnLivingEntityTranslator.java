@@ -35,9 +35,6 @@ import org.geysermc.connector.network.translators.Translator;
 import org.geysermc.connector.utils.EntityUtils;
 import org.geysermc.connector.utils.LanguageUtils;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-
 @Translator(packet = ServerSpawnLivingEntityPacket.class)
 public class JavaSpawnLivingEntityTranslator extends PacketTranslator<ServerSpawnLivingEntityPacket> {
 
@@ -53,17 +50,12 @@ public class JavaSpawnLivingEntityTranslator extends PacketTranslator<ServerSpaw
             return;
         }
 
-        Class<? extends Entity> entityClass = type.getEntityClass();
-        try {
-            Constructor<? extends Entity> entityConstructor = entityClass.getConstructor(long.class, long.class, EntityType.class,
-                    Vector3f.class, Vector3f.class, Vector3f.class);
-
-            Entity entity = entityConstructor.newInstance(packet.getEntityId(), session.getEntityCache().getNextEntityId().incrementAndGet(),
-                    type, position, motion, rotation
-            );
-            session.getEntityCache().spawnEntity(entity);
-        } catch (NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException ex) {
-            ex.printStackTrace();
+        Entity entity = EntityUtils.createEntity(type, packet.getEntityId(), session.getEntityCache().getNextEntityId().incrementAndGet(),
+                position, motion, rotation);
+        if (entity == null) {
+            session.getConnector().getLogger().warning(LanguageUtils.getLocaleStringLog("geyser.entity.type_null", packet.getType()));
+            return;
         }
+        session.getEntityCache().spawnEntity(entity);
     }
 }
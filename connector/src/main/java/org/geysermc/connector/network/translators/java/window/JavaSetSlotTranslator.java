@@ -219,7 +219,7 @@ public class JavaSetSlotTranslator extends PacketTranslator<ServerSetSlotPacket>
 
             ShapedRecipeData data = new ShapedRecipeData(width, height, "", javaIngredients, packet.getItem());
             // Cache this recipe so we know the client has received it
-            session.getCraftingRecipes().put(newRecipeId, new Recipe(RecipeType.CRAFTING_SHAPED, uuid.toString(), data));
+            session.addCraftingRecipe(newRecipeId, new Recipe(RecipeType.CRAFTING_SHAPED, uuid.toString(), data));
 
             CraftingDataPacket craftPacket = new CraftingDataPacket();
             craftPacket.getCraftingData().add(CraftingData.fromShaped(
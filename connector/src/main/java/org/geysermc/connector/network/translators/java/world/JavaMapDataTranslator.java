@@ -32,24 +32,27 @@ import com.nukkitx.protocol.bedrock.data.MapDecoration;
 import com.nukkitx.protocol.bedrock.data.MapTrackedObject;
 import com.nukkitx.protocol.bedrock.packet.ClientboundMapItemDataPacket;
 import org.geysermc.connector.network.session.GeyserSession;
+import org.geysermc.connector.network.session.cache.StoredMap;
 import org.geysermc.connector.network.translators.PacketTranslator;
 import org.geysermc.connector.network.translators.Translator;
 import org.geysermc.connector.utils.BedrockMapIcon;
 import org.geysermc.connector.utils.DimensionUtils;
 import org.geysermc.connector.utils.MapColor;
+import org.geysermc.connector.utils.MapImageCache;
+import org.geysermc.connector.utils.MapImageCache.MapImage;
 
 @Translator(packet = ServerMapDataPacket.class)
 public class JavaMapDataTranslator extends PacketTranslator<ServerMapDataPacket> {
     @Override
     public void translate(ServerMapDataPacket packet, GeyserSession session) {
         ClientboundMapItemDataPacket mapItemDataPacket = new ClientboundMapItemDataPacket();
-        boolean shouldStore = false;
 
         mapItemDataPacket.setUniqueMapId(packet.getMapId());
         mapItemDataPacket.setDimensionId(DimensionUtils.javaToBedrock(session.getDimension()));
         mapItemDataPacket.setLocked(packet.isLocked());
         mapItemDataPacket.setScale(packet.getScale());
 
+        StoredMap storedMap = session.getStoredMaps().get(packet.getMapId());
         MapData data = packet.getData();
         if (data != null) {
             mapItemDataPacket.setXOffset(data.getX());
@@ -58,19 +61,31 @@ public class JavaMapDataTranslator extends PacketTranslator<ServerMapDataPacket>
             mapItemDataPacket.setHeight(data.getRows());
 
             // We have a full map image, this usually only happens on spawn for the initial image
-            if (mapItemDataPacket.getWidth() == 128 && mapItemDataPacket.getHeight() == 128) {
-                shouldStore = true;
-            }
+            if (mapItemDataPacket.getWidth() == MapImageCache.MAP_SIZE && mapItemDataPacket.getHeight() == MapImageCache.MAP_SIZE) {
+                MapImage image = MapImageCache.getFullImage(session.getRemoteServer(), packet.getMapId(), data);
+                mapItemDataPacket.setColors(image.getColors());
 
-            // Every int entry is an ABGR color
-            int[] colors = new int[data.getData().length];
+                // Store the map to send when the client requests it, as bedrock expects the data after a MapInfoRequestPacket
+                if (storedMap == null) {
+                    storedMap = new StoredMap(image);
+                    session.getStoredMaps().put(packet.getMapId(), storedMap);
+                } else {
+                    storedMap.setImage(image);
+                }
+            } else {
+                // Every int entry is an ABGR color
+                byte[] javaColors = data.getData();
+                int[] colors = new int[javaColors.length];
+                for (int i = 0; i < javaColors.length; i++) {
+                    colors[i] = MapColor.toABGR(javaColors[i]);
+                }
+                mapItemDataPacket.setColors(colors);
 
-            int idx = 0;
-            for (byte colorId : data.getData()) {
-                colors[idx++] = MapColor.fromId(colorId & 0xFF).toABGR();
+                // Keep the stored image up to date for later MapInfoRequestPackets
+                if (storedMap != null) {
+                    storedMap.patch(data);
+                }
             }
-
-            mapItemDataPacket.setColors(colors);
         }
 
         // Bedrock needs an entity id to display an icon
@@ -83,9 +98,11 @@ public class JavaMapDataTranslator extends PacketTranslator<ServerMapDataPacket>
             id++;
         }
 
-        // Store the map to send when the client requests it, as bedrock expects the data after a MapInfoRequestPacket
-        if (shouldStore) {
-            session.getStoredMaps().put(mapItemDataPacket.getUniqueMapId(), mapItemDataPacket);
+        if (storedMap != null) {
+            storedMap.setScale(mapItemDataPacket.getScale());
+            storedMap.setLocked(mapItemDataPacket.isLocked());
+            storedMap.setDecorations(mapItemDataPacket.getDecorations());
+            storedMap.setTrackedObjects(mapItemDataPacket.getTrackedObjects());
         }
 
         // Send anyway just in case
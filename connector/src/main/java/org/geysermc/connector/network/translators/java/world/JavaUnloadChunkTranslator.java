@@ -41,17 +41,10 @@ public class JavaUnloadChunkTranslator extends PacketTranslator<ServerUnloadChun
         session.getChunkCache().removeChunk(packet.getX(), packet.getZ());
 
         //Checks if a skull is in an unloaded chunk then removes it
-        Iterator<Vector3i> iterator = session.getSkullCache().keySet().iterator();
-        while (iterator.hasNext()) {
-            Vector3i position = iterator.next();
-            if ((position.getX() >> 4) == packet.getX() && (position.getZ() >> 4) == packet.getZ()) {
-                session.getSkullCache().get(position).despawnEntity(session);
-                iterator.remove();
-            }
-        }
+        session.getSkullCache().removeChunk(packet.getX(), packet.getZ());
 
         // Do the same thing with lecterns
-        iterator = session.getLecternCache().iterator();
+        Iterator<Vector3i> iterator = session.getLecternCache().iterator();
         while (iterator.hasNext()) {
             Vector3i position = iterator.next();
             if ((position.getX() >> 4) == packet.getX() && (position.getZ() >> 4) == packet.getZ()) {
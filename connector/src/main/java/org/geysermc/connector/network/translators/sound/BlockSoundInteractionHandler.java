@@ -25,13 +25,10 @@
 
 package org.geysermc.connector.network.translators.sound;
 
-import com.github.steveice10.mc.protocol.data.game.entity.metadata.ItemStack;
 import com.nukkitx.math.vector.Vector3f;
 import org.geysermc.connector.inventory.GeyserItemStack;
 import org.geysermc.connector.network.session.GeyserSession;
-import org.geysermc.connector.network.translators.item.ItemRegistry;
-
-import java.util.Map;
+import org.geysermc.connector.network.translators.world.block.BlockTranslator;
 
 /**
  * Sound interaction handler for when a block is right-clicked.
@@ -44,44 +41,31 @@ public interface BlockSoundInteractionHandler extends SoundInteractionHandler<St
      *
      * @param session the session interacting with the block
      * @param position the position of the block
-     * @param identifier the identifier of the block
+     * @param blockState the Java block state of the block
      */
-    static void handleBlockInteraction(GeyserSession session, Vector3f position, String identifier) {
-        for (Map.Entry<SoundHandler, SoundInteractionHandler<?>> interactionEntry : SoundHandlerRegistry.INTERACTION_HANDLERS.entrySet()) {
-            if (!(interactionEntry.getValue() instanceof BlockSoundInteractionHandler)) {
-                continue;
-            }
-            if (interactionEntry.getKey().blocks().length != 0) {
-                boolean contains = false;
-                for (String blockIdentifier : interactionEntry.getKey().blocks()) {
-                    if (identifier.contains(blockIdentifier)) {
-                        contains = true;
-                        break;
-                    }
-                }
-                if (!contains) continue;
-            }
-            GeyserItemStack itemInHand = session.getPlayerInventory().getItemInHand();
-            if (interactionEntry.getKey().items().length != 0) {
-                if (itemInHand.isEmpty()) {
+    static void handleBlockInteraction(GeyserSession session, Vector3f position, int blockState) {
+        if (blockState < 0 || blockState >= SoundHandlerRegistry.BLOCK_INTERACTION_HANDLERS.length) {
+            return;
+        }
+        SoundHandlerRegistry.BlockInteractionEntry[] handlers = SoundHandlerRegistry.BLOCK_INTERACTION_HANDLERS[blockState];
+        if (handlers.length == 0) {
+            return;
+        }
+
+        String identifier = BlockTranslator.getJavaIdBlockMap().inverse().get(blockState);
+        GeyserItemStack itemInHand = session.getPlayerInventory().getItemInHand();
+        for (SoundHandlerRegistry.BlockInteractionEntry interactionEntry : handlers) {
+            if (interactionEntry.getItems() != null) {
+                if (itemInHand.isEmpty() || !interactionEntry.getItems().get(itemInHand.getJavaId())) {
                     continue;
                 }
-                String handIdentifier = itemInHand.getItemEntry().getJavaIdentifier();
-                boolean contains = false;
-                for (String itemIdentifier : interactionEntry.getKey().items()) {
-                    if (handIdentifier.contains(itemIdentifier)) {
-                        contains = true;
-                        break;
-                    }
-                }
-                if (!contains) continue;
             }
-            if (session.isSneaking() && !interactionEntry.getKey().ignoreSneakingWhileHolding()) {
+            if (session.isSneaking() && !interactionEntry.getAnnotation().ignoreSneakingWhileHolding()) {
                 if (!itemInHand.isEmpty()) {
                     continue;
                 }
             }
-            ((BlockSoundInteractionHandler) interactionEntry.getValue()).handleInteraction(session, position, identifier);
+            interactionEntry.getHandler().handleInteraction(session, position, identifier);
         }
     }
 }
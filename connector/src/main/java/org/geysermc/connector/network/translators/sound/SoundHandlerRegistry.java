@@ -25,12 +25,17 @@
 
 package org.geysermc.connector.network.translators.sound;
 
+import com.google.common.collect.BiMap;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import org.geysermc.connector.GeyserConnector;
+import org.geysermc.connector.network.translators.item.ItemEntry;
+import org.geysermc.connector.network.translators.item.ItemRegistry;
+import org.geysermc.connector.network.translators.world.block.BlockTranslator;
 import org.geysermc.connector.utils.FileUtils;
 import org.reflections.Reflections;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
 
 /**
  * Registry that holds {@link SoundInteractionHandler}s.
@@ -39,6 +44,14 @@ public class SoundHandlerRegistry {
 
     static final Map<SoundHandler, SoundInteractionHandler<?>> INTERACTION_HANDLERS = new HashMap<>();
 
+    /**
+     * The block interaction handlers that apply to each Java block state, indexed by block state. Resolved once here
+     * so right-clicking a block doesn't have to match identifiers against every handler.
+     */
+    static final BlockInteractionEntry[][] BLOCK_INTERACTION_HANDLERS;
+
+    private static final BlockInteractionEntry[] NO_BLOCK_INTERACTION_HANDLERS = new BlockInteractionEntry[0];
+
     static {
         Reflections ref = GeyserConnector.getInstance().useXmlReflections() ? FileUtils.getReflections("org.geysermc.connector.network.translators.sound") : new Reflections("org.geysermc.connector.network.translators.sound");
         for (Class<?> clazz : ref.getTypesAnnotatedWith(SoundHandler.class)) {
@@ -50,6 +63,57 @@ public class SoundHandlerRegistry {
                 ex.printStackTrace();
             }
         }
+
+        List<BlockInteractionEntry> blockHandlers = new ArrayList<>();
+        for (Map.Entry<SoundHandler, SoundInteractionHandler<?>> interactionEntry : INTERACTION_HANDLERS.entrySet()) {
+            if (interactionEntry.getValue() instanceof BlockSoundInteractionHandler) {
+                blockHandlers.add(new BlockInteractionEntry(interactionEntry.getKey(),
+                        (BlockSoundInteractionHandler) interactionEntry.getValue(), getMatchingItems(interactionEntry.getKey().items())));
+            }
+        }
+
+        BiMap<String, Integer> javaIdBlockMap = BlockTranslator.getJavaIdBlockMap();
+        BLOCK_INTERACTION_HANDLERS = new BlockInteractionEntry[javaIdBlockMap.size()][];
+        Arrays.fill(BLOCK_INTERACTION_HANDLERS, NO_BLOCK_INTERACTION_HANDLERS);
+        for (Map.Entry<String, Integer> blockEntry : javaIdBlockMap.entrySet()) {
+            List<BlockInteractionEntry> applicableHandlers = new ArrayList<>();
+            for (BlockInteractionEntry handler : blockHandlers) {
+                if (matches(blockEntry.getKey(), handler.getAnnotation().blocks())) {
+                    applicableHandlers.add(handler);
+                }
+            }
+            if (!applicableHandlers.isEmpty()) {
+                BLOCK_INTERACTION_HANDLERS[blockEntry.getValue()] = applicableHandlers.toArray(NO_BLOCK_INTERACTION_HANDLERS);
+            }
+        }
+    }
+
+    /**
+     * @return the Java item IDs whose identifier contains one of the given identifiers, or null if any item matches
+     */
+    private static BitSet getMatchingItems(String[] itemIdentifiers) {
+        if (itemIdentifiers.length == 0) {
+            return null;
+        }
+        BitSet items = new BitSet();
+        for (ItemEntry itemEntry : ItemRegistry.ITEM_ENTRIES.values()) {
+            if (matches(itemEntry.getJavaIdentifier(), itemIdentifiers)) {
+                items.set(itemEntry.getJavaId());
+            }
+        }
+        return items;
+    }
+
+    private static boolean matches(String identifier, String[] identifiers) {
+        if (identifiers.length == 0) {
+            return true;
+        }
+        for (String otherIdentifier : identifiers) {
+            if (identifier.contains(otherIdentifier)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private SoundHandlerRegistry() {
@@ -67,4 +131,18 @@ public class SoundHandlerRegistry {
     public static Map<SoundHandler, SoundInteractionHandler<?>> getInteractionHandlers() {
         return INTERACTION_HANDLERS;
     }
+
+    /**
+     * A block interaction handler with its item requirements resolved
+     */
+    @Getter
+    @AllArgsConstructor
+    static class BlockInteractionEntry {
+        private final SoundHandler annotation;
+        private final BlockSoundInteractionHandler handler;
+        /**
+         * The Java item IDs that may be in the player's hand, or null if the handler doesn't care
+         */
+        private final BitSet items;
+    }
 }
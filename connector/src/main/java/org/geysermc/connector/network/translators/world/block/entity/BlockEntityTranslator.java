@@ -33,6 +33,7 @@ import com.nukkitx.nbt.NbtMap;
 import com.nukkitx.nbt.NbtMapBuilder;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import org.geysermc.connector.GeyserConnector;
+import org.geysermc.connector.network.translators.world.block.BlockTranslator;
 import org.geysermc.connector.utils.BlockEntityUtils;
 import org.geysermc.connector.utils.FileUtils;
 import org.geysermc.connector.utils.LanguageUtils;
@@ -51,20 +52,11 @@ public abstract class BlockEntityTranslator {
      * This list will be smaller with cache chunks on as we don't need to double-cache data
      */
     public static final ObjectArrayList<RequiresBlockState> REQUIRES_BLOCK_STATE_LIST = new ObjectArrayList<>();
-
     /**
-     * Contains a list of irregular block entity name translations that can't be fit into the regex
+     * The entry of {@link #REQUIRES_BLOCK_STATE_LIST} that applies to each Java block state, or null if none does.
+     * Block updates are frequent enough that checking every entry each time adds up.
      */
-    public static final Map<String, String> BLOCK_ENTITY_TRANSLATIONS = new HashMap<String, String>() {
-        {
-            // Bedrock/Java differences
-            put("minecraft:enchanting_table", "EnchantTable");
-            put("minecraft:jigsaw", "JigsawBlock");
-            put("minecraft:piston_head", "PistonArm");
-            put("minecraft:trapped_chest", "Chest");
-            // There are some legacy IDs sent but as far as I can tell they are not needed for things to work properly
-        }
-    };
+    private static final RequiresBlockState[] REQUIRES_BLOCK_STATE_BY_STATE;
 
     protected BlockEntityTranslator() {
     }
@@ -100,16 +92,40 @@ public abstract class BlockEntityTranslator {
                 GeyserConnector.getInstance().getLogger().error(LanguageUtils.getLocaleStringLog("geyser.network.translator.block_state.failed", clazz.getCanonicalName()));
             }
         }
+
+        REQUIRES_BLOCK_STATE_BY_STATE = new RequiresBlockState[BlockTranslator.getJavaIdBlockMap().size()];
+        for (int blockState = 0; blockState < REQUIRES_BLOCK_STATE_BY_STATE.length; blockState++) {
+            for (RequiresBlockState requiresBlockState : REQUIRES_BLOCK_STATE_LIST) {
+                if (requiresBlockState.isBlock(blockState)) {
+                    // No block will be a part of two classes
+                    REQUIRES_BLOCK_STATE_BY_STATE[blockState] = requiresBlockState;
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the block entity that needs this Java block state, or null if there is none
+     */
+    public static RequiresBlockState getRequiresBlockState(int blockState) {
+        if (blockState < 0 || blockState >= REQUIRES_BLOCK_STATE_BY_STATE.length) {
+            return null;
+        }
+        return REQUIRES_BLOCK_STATE_BY_STATE[blockState];
     }
 
     public abstract void translateTag(NbtMapBuilder builder, CompoundTag tag, int blockState);
 
-    public NbtMap getBlockEntityTag(String id, CompoundTag tag, int blockState) {
+    /**
+     * @param bedrockId the Bedrock block entity ID, as returned by {@link BlockEntityUtils#getBedrockBlockEntityId(String)}
+     */
+    public NbtMap getBlockEntityTag(String bedrockId, CompoundTag tag, int blockState) {
         int x = ((IntTag) tag.getValue().get("x")).getValue();
         int y = ((IntTag) tag.getValue().get("y")).getValue();
         int z = ((IntTag) tag.getValue().get("z")).getValue();
 
-        NbtMapBuilder tagBuilder = getConstantBedrockTag(BlockEntityUtils.getBedrockBlockEntityId(id), x, y, z);
+        NbtMapBuilder tagBuilder = getConstantBedrockTag(bedrockId, x, y, z);
         translateTag(tagBuilder, tag, blockState);
         return tagBuilder.build();
     }
@@ -26,12 +26,29 @@
 package org.geysermc.connector.network.translators.world.block.entity;
 
 import com.github.steveice10.opennbt.tag.builtin.CompoundTag;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.nukkitx.nbt.NbtMapBuilder;
+import lombok.Value;
 import org.geysermc.connector.network.translators.chat.MessageTranslator;
+import org.geysermc.connector.utils.LanguageUtils;
 import org.geysermc.connector.utils.SignUtils;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
 @BlockEntity(name = "Sign")
 public class SignBlockEntityTranslator extends BlockEntityTranslator {
+    /**
+     * Translated sign text by the raw Java lines. Spawn areas, shops and leaderboards show the same signs to every
+     * player, so the text only needs to be translated once.
+     */
+    private static final Cache<SignText, String> TRANSLATED_SIGN_TEXT = CacheBuilder.newBuilder()
+            .maximumSize(4096)
+            .expireAfterAccess(10, TimeUnit.MINUTES)
+            .build();
+
     /**
      * Maps a color stored in a sign's Color tag to a Bedrock Edition formatting code.
      * <br>
@@ -95,10 +112,27 @@ public class SignBlockEntityTranslator extends BlockEntityTranslator {
 
     @Override
     public void translateTag(NbtMapBuilder builder, CompoundTag tag, int blockState) {
-        StringBuilder signText = new StringBuilder();
+        List<String> lines = new ArrayList<>(4);
         for (int i = 0; i < 4; i++) {
             int currentLine = i + 1;
-            String signLine = getOrDefault(tag.getValue().get("Text" + currentLine), "");
+            lines.add(getOrDefault(tag.getValue().get("Text" + currentLine), ""));
+        }
+        // Java Edition 1.14 added the ability to change the text color of the whole sign using dye
+        String color = tag.contains("Color") ? tag.get("Color").getValue().toString() : null;
+
+        SignText key = new SignText(lines, color, LanguageUtils.getDefaultLocale());
+        String signText = TRANSLATED_SIGN_TEXT.getIfPresent(key);
+        if (signText == null) {
+            signText = translateSignText(lines, color);
+            TRANSLATED_SIGN_TEXT.put(key, signText);
+        }
+
+        builder.put("Text", signText);
+    }
+
+    private String translateSignText(List<String> lines, String color) {
+        StringBuilder signText = new StringBuilder();
+        for (String signLine : lines) {
             signLine = MessageTranslator.convertMessageLenient(signLine);
 
             // Trim any trailing formatting codes
@@ -119,15 +153,23 @@ public class SignBlockEntityTranslator extends BlockEntityTranslator {
                 }
             }
 
-            // Java Edition 1.14 added the ability to change the text color of the whole sign using dye
-            if (tag.contains("Color")) {
-                signText.append(getBedrockSignColor(tag.get("Color").getValue().toString()));
+            if (color != null) {
+                signText.append(getBedrockSignColor(color));
             }
 
             signText.append(finalSignLine.toString());
             signText.append("\n");
         }
+        return signText.toString();
+    }
 
-        builder.put("Text", signText.toString());
+    /**
+     * The untranslated contents of a sign
+     */
+    @Value
+    private static class SignText {
+        List<String> lines;
+        String color;
+        String locale;
     }
 }
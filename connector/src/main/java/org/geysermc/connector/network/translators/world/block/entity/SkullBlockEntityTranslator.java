@@ -26,29 +26,30 @@
 package org.geysermc.connector.network.translators.world.block.entity;
 
 import com.github.steveice10.mc.auth.data.GameProfile;
-import com.github.steveice10.opennbt.tag.builtin.CompoundTag;
-import com.github.steveice10.opennbt.tag.builtin.ListTag;
-import com.github.steveice10.opennbt.tag.builtin.StringTag;
+import com.github.steveice10.opennbt.tag.builtin.*;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.nukkitx.math.vector.Vector3f;
 import com.nukkitx.math.vector.Vector3i;
 import com.nukkitx.nbt.NbtMapBuilder;
-import com.nukkitx.protocol.bedrock.data.entity.EntityFlag;
-import org.geysermc.connector.entity.player.SkullPlayerEntity;
 import org.geysermc.connector.network.session.GeyserSession;
 import org.geysermc.connector.network.translators.world.block.BlockStateValues;
 import org.geysermc.connector.skin.SkinProvider;
-import org.geysermc.connector.skin.SkullSkinManager;
 
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 @BlockEntity(name = "Skull")
 public class SkullBlockEntityTranslator extends BlockEntityTranslator implements RequiresBlockState {
     public static boolean ALLOW_CUSTOM_SKULLS;
+    /**
+     * Skull owners without textures, mapped to their lookup. Heads of the same player are usually placed many times.
+     */
+    private static final Cache<String, CompletableFuture<GameProfile>> REQUESTED_PROFILES = CacheBuilder.newBuilder()
+            .expireAfterWrite(1, TimeUnit.HOURS)
+            .maximumSize(1000)
+            .build();
 
     @Override
     public boolean isBlock(int blockState) {
@@ -72,7 +73,7 @@ public class SkullBlockEntityTranslator extends BlockEntityTranslator implements
             CompoundTag owner = tag.get("SkullOwner");
             CompoundTag properties = owner.get("Properties");
             if (properties == null) {
-                return SkinProvider.requestTexturesFromUsername(owner);
+                return requestTexturesFromOwner(owner);
             }
 
             ListTag textures = properties.get("textures");
@@ -89,6 +90,32 @@ public class SkullBlockEntityTranslator extends BlockEntityTranslator implements
         return CompletableFuture.completedFuture(null);
     }
 
+    /**
+     * Looks up the textures of a skull owner, sharing the request with every other skull and session using the same owner.
+     */
+    private static CompletableFuture<GameProfile> requestTexturesFromOwner(CompoundTag owner) {
+        Tag idTag = owner.get("Id");
+        Tag nameTag = owner.get("Name");
+        String key = (idTag instanceof IntArrayTag ? Arrays.toString(((IntArrayTag) idTag).getValue()) : "")
+                + ":" + (nameTag != null ? nameTag.getValue() : "");
+
+        CompletableFuture<GameProfile> future = REQUESTED_PROFILES.getIfPresent(key);
+        if (future == null) {
+            CompletableFuture<GameProfile> newFuture = SkinProvider.requestTexturesFromUsername(owner);
+            future = REQUESTED_PROFILES.asMap().putIfAbsent(key, newFuture);
+            if (future == null) {
+                future = newFuture;
+                // Don't remember failed lookups, so they can be retried
+                newFuture.whenComplete((profile, throwable) -> {
+                    if (profile == null) {
+                        REQUESTED_PROFILES.asMap().remove(key, newFuture);
+                    }
+                });
+            }
+        }
+        return future;
+    }
+
     public static void spawnPlayer(GeyserSession session, CompoundTag tag, int blockState) {
         int posX = (int) tag.get("x").getValue();
         int posY = (int) tag.get("y").getValue();
@@ -128,7 +155,6 @@ public class SkullBlockEntityTranslator extends BlockEntityTranslator implements
         Vector3i blockPosition = Vector3i.from(posX, posY, posZ);
         Vector3f entityPosition = Vector3f.from(x, y, z);
         Vector3f entityRotation = Vector3f.from(rotation, 0, rotation);
-        long geyserId = session.getEntityCache().getNextEntityId().incrementAndGet();
 
         getProfile(tag).whenComplete((gameProfile, throwable) -> {
             if (gameProfile == null) {
@@ -136,28 +162,8 @@ public class SkullBlockEntityTranslator extends BlockEntityTranslator implements
                 return;
             }
 
-            SkullPlayerEntity existingSkull = session.getSkullCache().get(blockPosition);
-            if (existingSkull != null) {
-                // Ensure that two skulls can't spawn on the same point
-                existingSkull.despawnEntity(session, blockPosition);
-            }
-
-            SkullPlayerEntity player = new SkullPlayerEntity(gameProfile, geyserId, entityPosition, entityRotation);
-            player.setBlockState(blockState);
-
-            // Cache entity
-            session.getSkullCache().put(blockPosition, player);
-
-            // Only send to session if we are initialized, otherwise it will happen then.
-            if (session.getUpstream().isInitialized()) {
-                player.spawnEntity(session);
-
-                SkullSkinManager.requestAndHandleSkin(player, session, (skin -> session.getConnector().getGeneralThreadPool().schedule(() -> {
-                    // Delay to minimize split-second "player" pop-in
-                    player.getMetadata().getFlags().setFlag(EntityFlag.INVISIBLE, false);
-                    player.updateBedrockMetadata(session);
-                }, 250, TimeUnit.MILLISECONDS)));
-            }
+            // Only shown if the player is close enough; otherwise it's spawned once they come closer
+            session.getSkullCache().putSkull(blockPosition, gameProfile, blockState, entityPosition, entityRotation);
         });
     }
 }
@@ -25,33 +25,63 @@
 
 package org.geysermc.connector.ping;
 
-import com.fasterxml.jackson.core.JsonParseException;
-import com.fasterxml.jackson.databind.JsonMappingException;
-import com.github.steveice10.mc.protocol.MinecraftConstants;
-import com.nukkitx.nbt.util.VarInts;
-import org.geysermc.connector.common.ping.GeyserPingInfo;
+import com.nukkitx.network.util.EventLoops;
 import org.geysermc.connector.GeyserConnector;
+import org.geysermc.connector.common.ping.GeyserPingInfo;
 
-import java.io.ByteArrayOutputStream;
-import java.io.DataInputStream;
-import java.io.DataOutputStream;
-import java.io.IOException;
 import java.net.ConnectException;
 import java.net.InetSocketAddress;
-import java.net.Socket;
-import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 public class GeyserLegacyPingPassthrough implements IGeyserPingPassthrough, Runnable {
 
-    private GeyserConnector connector;
+    /**
+     * How long to wait for connecting to a backend and for its status response
+     */
+    private static final int TIMEOUT_MILLIS = 5000;
+    /**
+     * How long a resolved backend address is reused before its hostname is looked up again
+     */
+    private static final long RESOLVE_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final GeyserConnector connector;
+    /**
+     * The servers to ping; the first one is always the remote server
+     */
+    private final List<Backend> backends;
+    /**
+     * How long a status stays valid without being refreshed
+     */
+    private final long staleAfterMillis;
+
+    private volatile GeyserPingInfo pingInfo;
+    private volatile long pingInfoTime;
+    private ScheduledFuture<?> future;
 
-    public GeyserLegacyPingPassthrough(GeyserConnector connector) {
+    public GeyserLegacyPingPassthrough(GeyserConnector connector, int interval) {
         this.connector = connector;
+        this.staleAfterMillis = TimeUnit.SECONDS.toMillis(interval) * 3 + TIMEOUT_MILLIS;
+
+        this.backends = new ArrayList<>();
+        this.backends.add(new Backend(connector.getConfig().getRemote().getAddress(), connector.getConfig().getRemote().getPort()));
+        for (String server : connector.getConfig().getPingPassthroughServers()) {
+            int separator = server.lastIndexOf(':');
+            if (separator == -1) {
+                connector.getLogger().warning("Ignoring ping passthrough server without a port: " + server);
+                continue;
+            }
+            try {
+                int port = Integer.parseInt(server.substring(separator + 1));
+                this.backends.add(new Backend(server.substring(0, separator), port));
+            } catch (NumberFormatException e) {
+                connector.getLogger().warning("Ignoring ping passthrough server with an invalid port: " + server);
+            }
+        }
     }
 
-    private GeyserPingInfo pingInfo;
-
     /**
      * Start legacy ping passthrough thread
      * @param connector GeyserConnector
@@ -59,11 +89,12 @@ public class GeyserLegacyPingPassthrough implements IGeyserPingPassthrough, Runn
      */
     public static IGeyserPingPassthrough init(GeyserConnector connector) {
         if (connector.getConfig().isPassthroughMotd() || connector.getConfig().isPassthroughPlayerCounts()) {
-            GeyserLegacyPingPassthrough pingPassthrough = new GeyserLegacyPingPassthrough(connector);
             // Ensure delay is not zero
             int interval = (connector.getConfig().getPingPassthroughInterval() == 0) ? 1 : connector.getConfig().getPingPassthroughInterval();
+            GeyserLegacyPingPassthrough pingPassthrough = new GeyserLegacyPingPassthrough(connector, interval);
             connector.getLogger().debug("Scheduling ping passthrough at an interval of " + interval + " second(s).");
-            connector.getGeneralThreadPool().scheduleAtFixedRate(pingPassthrough, 1, interval, TimeUnit.SECONDS);
+            // Hostnames are resolved with the blocking JDK resolver, which must not run on the RakNet event loops
+            pingPassthrough.future = connector.getGeneralThreadPool().scheduleAtFixedRate(pingPassthrough, 1, interval, TimeUnit.SECONDS);
             return pingPassthrough;
         }
         return null;
@@ -71,59 +102,124 @@ public class GeyserLegacyPingPassthrough implements IGeyserPingPassthrough, Runn
 
     @Override
     public GeyserPingInfo getPingInformation(InetSocketAddress inetSocketAddress) {
+        if (System.currentTimeMillis() - pingInfoTime > staleAfterMillis) {
+            return null;
+        }
         return pingInfo;
     }
 
     @Override
     public void run() {
-        try {
-            Socket socket = new Socket();
-            String address = connector.getConfig().getRemote().getAddress();
-            int port = connector.getConfig().getRemote().getPort();
-            socket.connect(new InetSocketAddress(address, port), 5000);
-
-            ByteArrayOutputStream byteArrayStream = new ByteArrayOutputStream();
-            DataOutputStream handshake = new DataOutputStream(byteArrayStream);
-            handshake.write(0x0);
-            VarInts.writeUnsignedInt(handshake, MinecraftConstants.PROTOCOL_VERSION);
-            VarInts.writeUnsignedInt(handshake, address.length());
-            handshake.writeBytes(address);
-            handshake.writeShort(port);
-            VarInts.writeUnsignedInt(handshake, 1);
-
-            DataOutputStream dataOutputStream = new DataOutputStream(socket.getOutputStream());
-            VarInts.writeUnsignedInt(dataOutputStream, byteArrayStream.size());
-            dataOutputStream.write(byteArrayStream.toByteArray());
-            dataOutputStream.writeByte(0x01);
-            dataOutputStream.writeByte(0x00);
-
-            DataInputStream dataInputStream = new DataInputStream(socket.getInputStream());
-            VarInts.readUnsignedInt(dataInputStream);
-            VarInts.readUnsignedInt(dataInputStream);
-            int length = VarInts.readUnsignedInt(dataInputStream);
-            byte[] buffer = new byte[length];
-            dataInputStream.readFully(buffer);
-            dataOutputStream.writeByte(0x09);
-            dataOutputStream.writeByte(0x01);
-            dataOutputStream.writeLong(System.currentTimeMillis());
-
-            VarInts.readUnsignedInt(dataInputStream);
-            String json = new String(buffer);
-
-            this.pingInfo = GeyserConnector.JSON_MAPPER.readValue(json, GeyserPingInfo.class);
-
-            byteArrayStream.close();
-            handshake.close();
-            dataOutputStream.close();
-            dataInputStream.close();
-            socket.close();
-        } catch (SocketTimeoutException | ConnectException ex) {
-            this.pingInfo = null;
-            this.connector.getLogger().debug("Connection timeout for ping passthrough.");
-        } catch (JsonParseException | JsonMappingException ex) {
-            this.connector.getLogger().error("Failed to parse json when pinging server!", ex);
-        } catch (IOException e) {
-            e.printStackTrace();
+        if (connector.isShuttingDown()) {
+            if (future != null) {
+                future.cancel(false);
+            }
+            return;
+        }
+
+        for (Backend backend : backends) {
+            if (backend.pending) {
+                // Still waiting on the last request - the timeout will take care of it
+                continue;
+            }
+
+            InetSocketAddress address = backend.resolve();
+            if (address == null) {
+                connector.getLogger().debug("Could not resolve ping passthrough server " + backend.host + ":" + backend.port + ".");
+                continue;
+            }
+            backend.pending = true;
+
+            // The request itself never blocks, so it runs on the event loops with the address resolved here
+            JavaStatusClient.requestStatus(EventLoops.commonGroup(), address, TIMEOUT_MILLIS).whenComplete((info, throwable) -> {
+                backend.pending = false;
+                if (throwable != null) {
+                    if (throwable instanceof ConnectException) {
+                        connector.getLogger().debug("Connection timeout for ping passthrough to " + address + ".");
+                    } else {
+                        connector.getLogger().debug("Failed to ping " + address + ": " + throwable.getMessage());
+                    }
+                    return;
+                }
+                backend.pingInfo = info;
+                backend.lastUpdate = System.currentTimeMillis();
+                aggregate();
+            });
+        }
+    }
+
+    /**
+     * Combine the status of all backends that have recently responded. The MOTD and version are taken from
+     * the remote server if possible, while player counts are summed up.
+     */
+    private synchronized void aggregate() {
+        long now = System.currentTimeMillis();
+        GeyserPingInfo primary = null;
+        int online = 0;
+        int max = 0;
+        for (Backend backend : backends) {
+            GeyserPingInfo info = backend.pingInfo;
+            if (info == null || now - backend.lastUpdate > staleAfterMillis) {
+                continue;
+            }
+            if (primary == null) {
+                primary = info;
+            }
+            if (info.getPlayers() != null) {
+                online += info.getPlayers().getOnline();
+                max += info.getPlayers().getMax();
+            }
+        }
+
+        if (primary == null) {
+            return;
+        }
+
+        if (backends.size() == 1) {
+            this.pingInfo = primary;
+        } else {
+            GeyserPingInfo combined = new GeyserPingInfo(primary.getDescription(), new GeyserPingInfo.Players(max, online), primary.getVersion());
+            combined.setPlayerList(primary.getPlayerList());
+            this.pingInfo = combined;
+        }
+        this.pingInfoTime = now;
+    }
+
+    private static class Backend {
+        private final String host;
+        private final int port;
+        private volatile boolean pending;
+        private volatile GeyserPingInfo pingInfo;
+        private volatile long lastUpdate;
+
+        /**
+         * Only accessed from the polling task, which never runs concurrently with itself
+         */
+        private InetSocketAddress address;
+        private long lastResolve;
+
+        private Backend(String host, int port) {
+            this.host = host;
+            this.port = port;
+        }
+
+        /**
+         * Resolve the hostname of this backend again if the last lookup is too old, so DNS changes are picked up.
+         * This blocks, so it must only be called off the event loops.
+         *
+         * @return the resolved address, or null if the hostname has never been resolved successfully
+         */
+        private InetSocketAddress resolve() {
+            long now = System.currentTimeMillis();
+            if (address == null || now - lastResolve > RESOLVE_INTERVAL_MILLIS) {
+                InetSocketAddress resolved = new InetSocketAddress(host, port);
+                if (!resolved.isUnresolved()) {
+                    address = resolved;
+                    lastResolve = now;
+                }
+                // Otherwise keep using the last known address until the lookup succeeds again
+            }
+            return address;
         }
     }
 }
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2019-2021 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.connector.ping;
+
+import com.github.steveice10.mc.protocol.MinecraftConstants;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.*;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.kqueue.KQueueEventLoopGroup;
+import io.netty.channel.kqueue.KQueueSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.CorruptedFrameException;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import org.geysermc.connector.GeyserConnector;
+import org.geysermc.connector.common.ping.GeyserPingInfo;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.UnresolvedAddressException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Requests the status of a Java server - what is shown in the multiplayer menu - without blocking any thread.
+ */
+public class JavaStatusClient {
+
+    /**
+     * Request the status of a Java server.
+     *
+     * @param group the event loop group to run the connection on
+     * @param address the resolved address of the Java server. Unresolved addresses are rejected, as Netty would
+     *                otherwise look them up with the blocking JDK resolver on the event loop
+     * @param timeoutMillis how long to wait for connecting and for each response
+     * @return a future completed with the server status, or exceptionally if it could not be retrieved
+     */
+    public static CompletableFuture<GeyserPingInfo> requestStatus(EventLoopGroup group, InetSocketAddress address, int timeoutMillis) {
+        CompletableFuture<GeyserPingInfo> future = new CompletableFuture<>();
+        if (address.isUnresolved()) {
+            future.completeExceptionally(new UnresolvedAddressException());
+            return future;
+        }
+
+        new Bootstrap()
+                .group(group)
+                .channel(getSocketChannelClass(group))
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, timeoutMillis)
+                .option(ChannelOption.TCP_NODELAY, true)
+                .handler(new ChannelInitializer<Channel>() {
+                    @Override
+                    protected void initChannel(Channel channel) {
+                        channel.pipeline()
+                                .addLast("timeout", new ReadTimeoutHandler(timeoutMillis, TimeUnit.MILLISECONDS))
+                                .addLast("frame", new VarIntFrameDecoder())
+                                .addLast("status", new StatusHandler(address, future));
+                    }
+                })
+                .connect(address)
+                .addListener((ChannelFutureListener) connectFuture -> {
+                    if (!connectFuture.isSuccess()) {
+                        future.completeExceptionally(connectFuture.cause());
+                    }
+                });
+
+        return future;
+    }
+
+    /**
+     * @param group the event loop group a channel will be registered to
+     * @return the socket channel implementation that works with this event loop group
+     */
+    private static Class<? extends SocketChannel> getSocketChannelClass(EventLoopGroup group) {
+        if (group instanceof EpollEventLoopGroup) {
+            return EpollSocketChannel.class;
+        }
+        if (group instanceof KQueueEventLoopGroup) {
+            return KQueueSocketChannel.class;
+        }
+        return NioSocketChannel.class;
+    }
+
+    private static void writeVarInt(ByteBuf buf, int value) {
+        while ((value & ~0x7F) != 0) {
+            buf.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buf.writeByte(value);
+    }
+
+    private static int readVarInt(ByteBuf buf) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = buf.readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new CorruptedFrameException("VarInt too big");
+    }
+
+    /**
+     * Splits the stream into Java packets, which are prefixed by their length as a VarInt.
+     */
+    private static class VarIntFrameDecoder extends ByteToMessageDecoder {
+        @Override
+        protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
+            in.markReaderIndex();
+
+            int length = 0;
+            for (int i = 0; i < 3; i++) {
+                if (!in.isReadable()) {
+                    in.resetReaderIndex();
+                    return;
+                }
+
+                byte b = in.readByte();
+                length |= (b & 0x7F) << (i * 7);
+                if ((b & 0x80) == 0) {
+                    if (in.readableBytes() < length) {
+                        in.resetReaderIndex();
+                    } else {
+                        out.add(in.readRetainedSlice(length));
+                    }
+                    return;
+                }
+            }
+            throw new CorruptedFrameException("Packet length is wider than 21 bits");
+        }
+    }
+
+    private static class StatusHandler extends SimpleChannelInboundHandler<ByteBuf> {
+        private final InetSocketAddress address;
+        private final CompletableFuture<GeyserPingInfo> future;
+
+        private StatusHandler(InetSocketAddress address, CompletableFuture<GeyserPingInfo> future) {
+            this.address = address;
+            this.future = future;
+        }
+
+        @Override
+        public void channelActive(ChannelHandlerContext ctx) {
+            byte[] hostname = address.getHostString().getBytes(StandardCharsets.UTF_8);
+
+            ByteBuf handshake = ctx.alloc().buffer();
+            writeVarInt(handshake, 0x00); // Handshake packet ID
+            writeVarInt(handshake, MinecraftConstants.PROTOCOL_VERSION);
+            writeVarInt(handshake, hostname.length);
+            handshake.writeBytes(hostname);
+            handshake.writeShort(address.getPort());
+            writeVarInt(handshake, 1); // Next state: status
+
+            ByteBuf buf = ctx.alloc().buffer(handshake.readableBytes() + 5);
+            writeVarInt(buf, handshake.readableBytes());
+            buf.writeBytes(handshake);
+            handshake.release();
+
+            // Status request packet
+            writeVarInt(buf, 1);
+            writeVarInt(buf, 0x00);
+
+            ctx.writeAndFlush(buf);
+        }
+
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, ByteBuf msg) throws Exception {
+            int packetId = readVarInt(msg);
+            if (packetId != 0x00) {
+                throw new IOException("Unexpected status packet " + packetId);
+            }
+
+            int length = readVarInt(msg);
+            String json = msg.readCharSequence(length, StandardCharsets.UTF_8).toString();
+            future.complete(GeyserConnector.JSON_MAPPER.readValue(json, GeyserPingInfo.class));
+            ctx.close();
+        }
+
+        @Override
+        public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+            future.completeExceptionally(cause);
+            ctx.close();
+        }
+
+        @Override
+        public void channelInactive(ChannelHandlerContext ctx) {
+            // Does nothing if the status was already received
+            future.completeExceptionally(new IOException("Connection closed before receiving the status"));
+        }
+    }
+}
@@ -133,18 +133,19 @@ public final class Objective {
     }
 
     public Objective setDisplayName(String displayName) {
-        this.displayName = displayName;
-        if (updateType == UpdateType.NOTHING) {
+        // Updating an objective means removing and re-adding every score, so don't do it if nothing changed
+        if (updateType == UpdateType.NOTHING && !displayName.equals(this.displayName)) {
             updateType = UpdateType.UPDATE;
         }
+        this.displayName = displayName;
         return this;
     }
 
     public Objective setType(int type) {
-        this.type = type;
-        if (updateType == UpdateType.NOTHING) {
+        if (updateType == UpdateType.NOTHING && type != this.type) {
             updateType = UpdateType.UPDATE;
         }
+        this.type = type;
         return this;
     }
 
@@ -146,15 +146,24 @@ public final class Scoreboard {
             if (objective.getType() == 1) {
                 for (Score score : objective.getScores().values()) {
                     boolean update = score.shouldUpdate();
+                    ScoreInfo previousInfo = score.getCachedInfo();
 
                     if (update) {
                         score.update(objective.getObjectiveName());
                     }
 
-                    if (score.getUpdateType() != REMOVE && update) {
+                    boolean add = score.getUpdateType() != REMOVE && update;
+                    boolean remove = score.getUpdateType() != ADD && update;
+                    if (add && remove && previousInfo != null) {
+                        ScoreChange change = compare(previousInfo, score.getCachedInfo());
+                        add = change != ScoreChange.NONE;
+                        remove = change == ScoreChange.NAME;
+                    }
+
+                    if (add) {
                         addScores.add(score.getCachedInfo());
                     }
-                    if (score.getUpdateType() != ADD && update) {
+                    if (remove) {
                         removeScores.add(score.getCachedInfo());
                     }
                 }
@@ -167,6 +176,7 @@ public final class Scoreboard {
 
             for (Score score : objective.getScores().values()) {
                 Team team = score.getTeam();
+                ScoreInfo previousInfo = score.getCachedInfo();
 
                 boolean add = objectiveAdd || objectiveUpdate;
                 boolean remove = false;
@@ -196,6 +206,14 @@ public final class Scoreboard {
                     score.update(objective.getObjectiveName());
                 }
 
+                // Only send the difference between what the client has and what it should have,
+                // unless the objective itself is being re-added and needs every score again
+                if (add && remove && !objectiveAdd && !objectiveUpdate && previousInfo != null) {
+                    ScoreChange change = compare(previousInfo, score.getCachedInfo());
+                    add = change != ScoreChange.NONE;
+                    remove = change == ScoreChange.NAME;
+                }
+
                 if (add) {
                     addScores.add(score.getCachedInfo());
                 }
@@ -281,6 +299,28 @@ public final class Scoreboard {
         session.sendUpstreamPacket(removeObjectivePacket);
     }
 
+    /**
+     * Compare the score info last sent to the client with its newly computed version.
+     *
+     * @param previous the info last sent to the client
+     * @param current the info that should be displayed now
+     * @return the kind of change between both infos
+     */
+    private static ScoreChange compare(ScoreInfo previous, ScoreInfo current) {
+        if (!Objects.equals(previous.getName(), current.getName())) {
+            // Bedrock does not rename existing entries, so it needs to be removed and re-added
+            return ScoreChange.NAME;
+        }
+        // Setting the score of an existing entry overwrites its value
+        return previous.getScore() == current.getScore() ? ScoreChange.NONE : ScoreChange.SCORE;
+    }
+
+    private enum ScoreChange {
+        NONE,
+        SCORE,
+        NAME
+    }
+
     public Team getTeamFor(String entity) {
         for (Team team : teams.values()) {
             if (team.hasEntity(entity)) {
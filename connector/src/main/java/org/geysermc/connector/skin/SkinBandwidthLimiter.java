@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2019-2021 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.connector.skin;
+
+import org.geysermc.connector.GeyserConnector;
+import org.geysermc.connector.network.session.GeyserSession;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits how much skin data is sent to a session per second. Skins that don't fit are queued and sent in order once
+ * the session has room again.
+ */
+public class SkinBandwidthLimiter {
+    /**
+     * Don't check the queue more often than this
+     */
+    private static final long MIN_RETRY_MILLIS = 50;
+
+    private final GeyserSession session;
+    /**
+     * Bytes per second, or 0 if unlimited
+     */
+    private final long bytesPerSecond;
+
+    private final Queue<PendingSkin> pendingSkins = new ArrayDeque<>();
+    private long availableBytes;
+    private long lastRefill;
+    private boolean drainScheduled;
+
+    public SkinBandwidthLimiter(GeyserSession session, int kilobytesPerSecond) {
+        this.session = session;
+        this.bytesPerSecond = kilobytesPerSecond * 1024L;
+        this.availableBytes = bytesPerSecond;
+        this.lastRefill = System.nanoTime();
+    }
+
+    /**
+     * Sends a skin now, or once the session has room for it.
+     *
+     * @param size the approximate size of the skin data in bytes
+     * @param sender sends the skin
+     */
+    public void send(int size, Runnable sender) {
+        if (bytesPerSecond <= 0) {
+            sender.run();
+            return;
+        }
+
+        synchronized (this) {
+            refill();
+            if (!pendingSkins.isEmpty() || availableBytes <= 0) {
+                pendingSkins.add(new PendingSkin(size, sender));
+                scheduleDrain();
+                return;
+            }
+            // Let one skin go over the limit rather than never sending skins larger than it
+            availableBytes -= size;
+        }
+        sender.run();
+    }
+
+    private void drain() {
+        List<Runnable> senders = new ArrayList<>();
+        synchronized (this) {
+            drainScheduled = false;
+            if (session.isClosed()) {
+                pendingSkins.clear();
+                return;
+            }
+
+            refill();
+            while (availableBytes > 0 && !pendingSkins.isEmpty()) {
+                PendingSkin pendingSkin = pendingSkins.poll();
+                availableBytes -= pendingSkin.size;
+                senders.add(pendingSkin.sender);
+            }
+            if (!pendingSkins.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        for (Runnable sender : senders) {
+            sender.run();
+        }
+    }
+
+    private void scheduleDrain() {
+        if (drainScheduled) {
+            return;
+        }
+        drainScheduled = true;
+        long delay = Math.max(MIN_RETRY_MILLIS, (-availableBytes + 1) * 1000 / bytesPerSecond);
+        GeyserConnector.getInstance().getGeneralThreadPool().schedule(this::drain, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        // Don't build up more than one second worth of data
+        long elapsed = Math.min(now - lastRefill, TimeUnit.SECONDS.toNanos(1));
+        long refilled = elapsed * bytesPerSecond / TimeUnit.SECONDS.toNanos(1);
+        if (refilled > 0) {
+            availableBytes = Math.min(bytesPerSecond, availableBytes + refilled);
+            lastRefill = now;
+        }
+    }
+
+    private static class PendingSkin {
+        private final int size;
+        private final Runnable sender;
+
+        PendingSkin(int size, Runnable sender) {
+            this.size = size;
+            this.sender = sender;
+        }
+    }
+}
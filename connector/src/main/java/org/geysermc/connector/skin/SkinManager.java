@@ -30,6 +30,7 @@ import com.github.steveice10.mc.auth.data.GameProfile;
 import com.nukkitx.protocol.bedrock.data.skin.ImageData;
 import com.nukkitx.protocol.bedrock.data.skin.SerializedSkin;
 import com.nukkitx.protocol.bedrock.packet.PlayerListPacket;
+import com.nukkitx.protocol.bedrock.packet.PlayerSkinPacket;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.geysermc.connector.GeyserConnector;
@@ -46,6 +47,35 @@ import java.util.UUID;
 import java.util.function.Consumer;
 
 public class SkinManager {
+    /**
+     * If players in the tab list should get a placeholder skin until they spawn near the player
+     */
+    public static boolean LAZY_SKINS;
+
+    /**
+     * The skin every player list entry shares while lazy skins are enabled. Since every entry is identical,
+     * it compresses to almost nothing in a batch.
+     */
+    private static final SerializedSkin PLACEHOLDER_SKIN;
+
+    static {
+        SkinProvider.SkinGeometry geometry = SkinProvider.SkinGeometry.getLegacy(false);
+        PLACEHOLDER_SKIN = SerializedSkin.of(
+                SkinProvider.EMPTY_SKIN.getTextureUrl(), "", geometry.getGeometryName(), ImageData.of(SkinProvider.EMPTY_SKIN.getSkinData()),
+                Collections.emptyList(), ImageData.of(SkinProvider.EMPTY_CAPE.getCapeData()), geometry.getGeometryData(), "", true, false,
+                false, SkinProvider.EMPTY_CAPE.getCapeId(), SkinProvider.EMPTY_SKIN.getTextureUrl()
+        );
+    }
+
+    /**
+     * Builds a Bedrock player list entry with a placeholder skin. The real skin is sent once the player entity spawns.
+     */
+    public static PlayerListPacket.Entry buildPlaceholderEntry(GeyserSession session, PlayerEntity playerEntity) {
+        PlayerListPacket.Entry entry = buildEntry(session, playerEntity.getProfile().getId(), playerEntity.getProfile().getName(),
+                playerEntity.getGeyserId());
+        entry.setSkin(PLACEHOLDER_SKIN);
+        return entry;
+    }
 
     /**
      * Builds a Bedrock player list entry from our existing, cached Bedrock skin information
@@ -86,6 +116,12 @@ public class SkinManager {
                 !capeId.equals(SkinProvider.EMPTY_CAPE.getCapeId()), capeId, skinId
         );
 
+        PlayerListPacket.Entry entry = buildEntry(session, uuid, username, geyserId);
+        entry.setSkin(serializedSkin);
+        return entry;
+    }
+
+    private static PlayerListPacket.Entry buildEntry(GeyserSession session, UUID uuid, String username, long geyserId) {
         // This attempts to find the XUID of the player so profile images show up for Xbox accounts
         String xuid = "";
         GeyserSession playerSession = GeyserConnector.getInstance().getPlayerByUuid(uuid);
@@ -106,7 +142,6 @@ public class SkinManager {
 
         entry.setName(username);
         entry.setEntityId(geyserId);
-        entry.setSkin(serializedSkin);
         entry.setXuid(xuid);
         entry.setPlatformChatId("");
         entry.setTeacher(false);
@@ -182,17 +217,29 @@ public class SkinManager {
                                     geometry
                             );
 
-
-                            PlayerListPacket playerAddPacket = new PlayerListPacket();
-                            playerAddPacket.setAction(PlayerListPacket.Action.ADD);
-                            playerAddPacket.getEntries().add(updatedEntry);
-                            session.sendUpstreamPacket(playerAddPacket);
-
-                            if (!entity.isPlayerList()) {
-                                PlayerListPacket playerRemovePacket = new PlayerListPacket();
-                                playerRemovePacket.setAction(PlayerListPacket.Action.REMOVE);
-                                playerRemovePacket.getEntries().add(updatedEntry);
-                                session.sendUpstreamPacket(playerRemovePacket);
+                            if (LAZY_SKINS && entity.isPlayerList() && entity != session.getPlayerEntity()) {
+                                // Already in the player list with a placeholder; only the skin has to be replaced
+                                PlayerSkinPacket skinPacket = new PlayerSkinPacket();
+                                skinPacket.setUuid(updatedEntry.getUuid());
+                                skinPacket.setOldSkinName("");
+                                skinPacket.setNewSkinName(skin.getTextureUrl());
+                                skinPacket.setSkin(updatedEntry.getSkin());
+                                skinPacket.setTrustedSkin(true);
+
+                                int size = skin.getSkinData().length + cape.getCapeData().length + geometry.getGeometryData().length();
+                                session.getSkinBandwidthLimiter().send(size, () -> session.sendUpstreamPacket(skinPacket));
+                            } else {
+                                PlayerListPacket playerAddPacket = new PlayerListPacket();
+                                playerAddPacket.setAction(PlayerListPacket.Action.ADD);
+                                playerAddPacket.getEntries().add(updatedEntry);
+                                session.sendUpstreamPacket(playerAddPacket);
+
+                                if (!entity.isPlayerList()) {
+                                    PlayerListPacket playerRemovePacket = new PlayerListPacket();
+                                    playerRemovePacket.setAction(PlayerListPacket.Action.REMOVE);
+                                    playerRemovePacket.getEntries().add(updatedEntry);
+                                    session.sendUpstreamPacket(playerRemovePacket);
+                                }
                             }
                         }
                     } catch (Exception e) {
@@ -25,6 +25,8 @@
 
 package org.geysermc.connector.skin;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.nukkitx.protocol.bedrock.data.skin.ImageData;
 import com.nukkitx.protocol.bedrock.data.skin.SerializedSkin;
 import com.nukkitx.protocol.bedrock.packet.PlayerSkinPacket;
@@ -34,9 +36,17 @@ import org.geysermc.connector.network.session.GeyserSession;
 import org.geysermc.connector.utils.LanguageUtils;
 
 import java.util.Collections;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 public class SkullSkinManager extends SkinManager {
+    /**
+     * Skull skins by texture URL, so sessions showing the same head share one serialized skin
+     */
+    private static final Cache<String, SerializedSkin> SKULL_SKINS = CacheBuilder.newBuilder()
+            .expireAfterAccess(1, TimeUnit.HOURS)
+            .maximumSize(1000)
+            .build();
 
     public static SerializedSkin buildSkullEntryManually(String skinId, byte[] skinData) {
         // Prevents https://cdn.discordapp.com/attachments/613194828359925800/779458146191147008/unknown.png
@@ -48,6 +58,15 @@ public class SkullSkinManager extends SkinManager {
         );
     }
 
+    private static SerializedSkin getSkullSkin(SkinProvider.Skin skin) {
+        SerializedSkin serializedSkin = SKULL_SKINS.getIfPresent(skin.getTextureUrl());
+        if (serializedSkin == null) {
+            serializedSkin = buildSkullEntryManually(skin.getTextureUrl(), skin.getSkinData());
+            SKULL_SKINS.put(skin.getTextureUrl(), serializedSkin);
+        }
+        return serializedSkin;
+    }
+
     public static void requestAndHandleSkin(PlayerEntity entity, GeyserSession session,
                                             Consumer<SkinProvider.Skin> skinConsumer) {
         GameProfileData data = GameProfileData.from(entity.getProfile());
@@ -60,7 +79,7 @@ public class SkullSkinManager extends SkinManager {
                             packet.setUuid(entity.getUuid());
                             packet.setOldSkinName("");
                             packet.setNewSkinName(skin.getTextureUrl());
-                            packet.setSkin(buildSkullEntryManually(skin.getTextureUrl(), skin.getSkinData()));
+                            packet.setSkin(getSkullSkin(skin));
                             packet.setTrustedSkin(true);
                             session.sendUpstreamPacket(packet);
                         }
@@ -26,18 +26,81 @@
 package org.geysermc.connector.utils;
 
 import com.github.steveice10.mc.protocol.data.game.entity.metadata.Position;
+import com.github.steveice10.mc.protocol.data.game.world.block.UpdatedTileType;
 import com.nukkitx.math.vector.Vector3i;
 import com.nukkitx.nbt.NbtMap;
 import com.nukkitx.protocol.bedrock.packet.BlockEntityDataPacket;
 import org.geysermc.connector.network.session.GeyserSession;
 import org.geysermc.connector.network.translators.world.block.entity.BlockEntityTranslator;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 public class BlockEntityUtils {
-    private static final BlockEntityTranslator EMPTY_TRANSLATOR = BlockEntityTranslator.BLOCK_ENTITY_TRANSLATORS.get("Empty");
+    /**
+     * All Java block entity IDs as they appear in chunk data
+     */
+    private static final String[] JAVA_BLOCK_ENTITY_IDS = new String[] {
+            "banner", "barrel", "beacon", "bed", "beehive", "bell", "blast_furnace", "brewing_stand", "campfire", "chest",
+            "command_block", "comparator", "conduit", "daylight_detector", "dispenser", "dropper", "enchanting_table",
+            "end_gateway", "end_portal", "ender_chest", "furnace", "hopper", "jigsaw", "jukebox", "lectern", "mob_spawner",
+            "piston", "shulker_box", "sign", "skull", "smoker", "structure_block", "trapped_chest"
+    };
+
+    /**
+     * Contains a list of irregular block entity name translations that can't be fit into the regex
+     */
+    private static final Map<String, String> BLOCK_ENTITY_TRANSLATIONS = new HashMap<String, String>() {
+        {
+            // Bedrock/Java differences
+            put("minecraft:enchanting_table", "EnchantTable");
+            put("minecraft:jigsaw", "JigsawBlock");
+            put("minecraft:piston_head", "PistonArm");
+            put("minecraft:trapped_chest", "Chest");
+            // There are some legacy IDs sent but as far as I can tell they are not needed for things to work properly
+        }
+    };
+
+    /**
+     * Unknown IDs are remembered as well, but only up to this amount so a server can't fill the map with garbage
+     */
+    private static final int MAX_CACHED_IDS = 512;
+
+    /**
+     * Java block entity IDs mapped to their Bedrock equivalent. Filled with every known ID in every format the Java
+     * server uses, so the string manipulation in {@link #computeBedrockBlockEntityId(String)} rarely runs.
+     */
+    private static final Map<String, String> BEDROCK_BLOCK_ENTITY_IDS = new ConcurrentHashMap<>();
+
+    static {
+        for (String id : JAVA_BLOCK_ENTITY_IDS) {
+            // The exceptions are keyed by the namespaced ID
+            String bedrockId = computeBedrockBlockEntityId("minecraft:" + id);
+            BEDROCK_BLOCK_ENTITY_IDS.put(id, bedrockId);
+            BEDROCK_BLOCK_ENTITY_IDS.put("minecraft:" + id, bedrockId);
+        }
+        for (UpdatedTileType type : UpdatedTileType.values()) {
+            BEDROCK_BLOCK_ENTITY_IDS.put(type.name(), computeBedrockBlockEntityId(type.name()));
+        }
+    }
 
     public static String getBedrockBlockEntityId(String id) {
+        String bedrockId = BEDROCK_BLOCK_ENTITY_IDS.get(id);
+        if (bedrockId != null) {
+            return bedrockId;
+        }
+
+        bedrockId = computeBedrockBlockEntityId(id);
+        if (BEDROCK_BLOCK_ENTITY_IDS.size() < MAX_CACHED_IDS) {
+            BEDROCK_BLOCK_ENTITY_IDS.put(id, bedrockId);
+        }
+        return bedrockId;
+    }
+
+    private static String computeBedrockBlockEntityId(String id) {
         // These are the only exceptions when it comes to block entity ids
-        String value = BlockEntityTranslator.BLOCK_ENTITY_TRANSLATIONS.get(id);
+        String value = BLOCK_ENTITY_TRANSLATIONS.get(id);
         if (value != null) {
             return value;
         }
@@ -63,7 +126,7 @@ public class BlockEntityUtils {
         if (blockEntityTranslator != null) {
             return blockEntityTranslator;
         }
-        return EMPTY_TRANSLATOR;
+        return BlockEntityTranslator.BLOCK_ENTITY_TRANSLATORS.get("Empty");
     }
 
     public static void updateBlockEntity(GeyserSession session, NbtMap blockEntity, Position position) {
@@ -51,7 +51,6 @@ import lombok.experimental.UtilityClass;
 import org.geysermc.connector.GeyserConnector;
 import org.geysermc.connector.entity.Entity;
 import org.geysermc.connector.entity.ItemFrameEntity;
-import org.geysermc.connector.entity.player.SkullPlayerEntity;
 import org.geysermc.connector.network.session.GeyserSession;
 import org.geysermc.connector.network.translators.inventory.translators.LecternInventoryTranslator;
 import org.geysermc.connector.network.translators.world.block.BlockStateValues;
@@ -300,7 +299,7 @@ public class ChunkUtils {
             }
 
             BlockEntityTranslator blockEntityTranslator = BlockEntityUtils.getBlockEntityTranslator(id);
-            bedrockBlockEntities[i] = blockEntityTranslator.getBlockEntityTag(tagName, tag, blockState);
+            bedrockBlockEntities[i] = blockEntityTranslator.getBlockEntityTag(id, tag, blockState);
 
             // Check for custom skulls
             if (SkullBlockEntityTranslator.ALLOW_CUSTOM_SKULLS && tag.contains("SkullOwner")) {
@@ -370,11 +369,8 @@ public class ChunkUtils {
             }
         }
 
-        SkullPlayerEntity skull = session.getSkullCache().get(position);
-        if (skull != null && blockState != skull.getBlockState()) {
-            // Skull is gone
-            skull.despawnEntity(session, position);
-        }
+        // Despawn the skull entity if the skull is gone
+        session.getSkullCache().updateBlockState(position, blockState);
 
         int blockId = BlockTranslator.getBedrockBlockId(blockState);
 
@@ -420,19 +416,15 @@ public class ChunkUtils {
 
         // Since Java stores bed colors/skull information as part of the namespaced ID and Bedrock stores it as a tag
         // This is the only place I could find that interacts with the Java block state and block updates
-        // Iterates through all block entity translators and determines if the block state needs to be saved
-        for (RequiresBlockState requiresBlockState : BlockEntityTranslator.REQUIRES_BLOCK_STATE_LIST) {
-            if (requiresBlockState.isBlock(blockState)) {
+        // Determines if the block state needs to be saved
+        RequiresBlockState requiresBlockState = BlockEntityTranslator.getRequiresBlockState(blockState);
+        if (requiresBlockState != null) {
+            if (requiresBlockState instanceof BedrockOnlyBlockEntity) {
                 // Flower pots are block entities only in Bedrock and are not updated anywhere else like note blocks
-                if (requiresBlockState instanceof BedrockOnlyBlockEntity) {
-                    ((BedrockOnlyBlockEntity) requiresBlockState).updateBlock(session, blockState, position);
-                    break;
-                }
-                if (!session.getConnector().getConfig().isCacheChunks()) {
-                    // Blocks aren't saved to a chunk cache; resort to this smaller cache
-                    CACHED_BLOCK_ENTITIES.put(new Position(position.getX(), position.getY(), position.getZ()), blockState);
-                }
-                break; //No block will be a part of two classes
+                ((BedrockOnlyBlockEntity) requiresBlockState).updateBlock(session, blockState, position);
+            } else if (!session.getConnector().getConfig().isCacheChunks()) {
+                // Blocks aren't saved to a chunk cache; resort to this smaller cache
+                CACHED_BLOCK_ENTITIES.put(new Position(position.getX(), position.getY(), position.getZ()), blockState);
             }
         }
         session.getChunkCache().updateBlock(position.getX(), position.getY(), position.getZ(), blockState);
@@ -26,9 +26,88 @@
 package org.geysermc.connector.utils;
 
 import com.github.steveice10.mc.protocol.data.game.entity.Effect;
+import com.nukkitx.math.vector.Vector3f;
+import org.geysermc.connector.GeyserConnector;
+import org.geysermc.connector.entity.Entity;
+import org.geysermc.connector.entity.EntityFactory;
 import org.geysermc.connector.entity.type.EntityType;
 
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
 public class EntityUtils {
+    /**
+     * The signature of the constructor every regular entity has
+     */
+    private static final MethodType ENTITY_CONSTRUCTOR = MethodType.methodType(void.class, long.class, long.class,
+            EntityType.class, Vector3f.class, Vector3f.class, Vector3f.class);
+
+    /**
+     * Bedrock entity types, indexed by the ordinal of the Java entity type
+     */
+    private static final EntityType[] BEDROCK_ENTITY_TYPES;
+    /**
+     * Entity factories, indexed by the ordinal of the Bedrock entity type. Null if the entity has to be created by hand.
+     */
+    private static final EntityFactory<?>[] ENTITY_FACTORIES;
+
+    static {
+        com.github.steveice10.mc.protocol.data.game.entity.type.EntityType[] javaTypes = com.github.steveice10.mc.protocol.data.game.entity.type.EntityType.values();
+        BEDROCK_ENTITY_TYPES = new EntityType[javaTypes.length];
+        for (com.github.steveice10.mc.protocol.data.game.entity.type.EntityType javaType : javaTypes) {
+            try {
+                BEDROCK_ENTITY_TYPES[javaType.ordinal()] = EntityType.valueOf(javaType.name());
+            } catch (IllegalArgumentException ignored) {
+                // No Bedrock equivalent
+            }
+        }
+
+        EntityType[] bedrockTypes = EntityType.values();
+        ENTITY_FACTORIES = new EntityFactory<?>[bedrockTypes.length];
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        for (EntityType type : bedrockTypes) {
+            ENTITY_FACTORIES[type.ordinal()] = createFactory(lookup, type.getEntityClass());
+        }
+    }
+
+    public static void init() {
+        // no-op
+    }
+
+    /**
+     * Turns the entity constructor into an {@link EntityFactory}, so spawning an entity is a plain constructor call.
+     *
+     * @return the factory, or null if the entity class doesn't have the regular constructor
+     */
+    private static EntityFactory<?> createFactory(MethodHandles.Lookup lookup, Class<? extends Entity> entityClass) {
+        try {
+            MethodHandle constructor = lookup.findConstructor(entityClass, ENTITY_CONSTRUCTOR);
+            return (EntityFactory<?>) LambdaMetafactory.metafactory(lookup, "create", MethodType.methodType(EntityFactory.class),
+                    constructor.type().changeReturnType(Entity.class), constructor, constructor.type())
+                    .getTarget().invoke();
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            // Created by hand in the spawn translators
+            return null;
+        } catch (Throwable t) {
+            GeyserConnector.getInstance().getLogger().error("Unable to create an entity factory for " + entityClass.getName(), t);
+            return null;
+        }
+    }
+
+    /**
+     * Creates an entity using the regular entity constructor.
+     *
+     * @return the entity, or null if this entity type needs special arguments to be created
+     */
+    public static Entity createEntity(EntityType type, long entityId, long geyserId, Vector3f position, Vector3f motion, Vector3f rotation) {
+        EntityFactory<?> factory = ENTITY_FACTORIES[type.ordinal()];
+        if (factory == null) {
+            return null;
+        }
+        return factory.create(entityId, geyserId, type, position, motion, rotation);
+    }
 
     /**
      * Convert Java edition effect IDs to Bedrock edition
@@ -66,10 +145,6 @@ public class EntityUtils {
      * @return Converted EntityType
      */
     public static EntityType toBedrockEntity(com.github.steveice10.mc.protocol.data.game.entity.type.EntityType type) {
-        try {
-            return EntityType.valueOf(type.name());
-        } catch (IllegalArgumentException ex) {
-            return null;
-        }
+        return BEDROCK_ENTITY_TYPES[type.ordinal()];
     }
 }
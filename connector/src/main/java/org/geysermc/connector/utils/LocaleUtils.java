@@ -27,6 +27,8 @@ package org.geysermc.connector.utils;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.github.steveice10.mc.protocol.MinecraftConstants;
 import lombok.Getter;
@@ -35,30 +37,36 @@ import org.geysermc.connector.GeyserConnector;
 import java.io.*;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.zip.ZipFile;
 
 public class LocaleUtils {
 
-    public static final Map<String, Map<String, String>> LOCALE_MAPPINGS = new HashMap<>();
+    /**
+     * Every translation key of every loaded locale mapped to an index into the locale tables below.
+     * Keys are shared between all locales so they are only stored once.
+     */
+    private static final Map<String, Integer> KEY_IDS = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_KEY_ID = new AtomicInteger();
+
+    /**
+     * Loaded locales mapped to their translations, indexed by the key ID from {@link #KEY_IDS}
+     */
+    private static final Map<String, String[]> LOCALE_MAPPINGS = new ConcurrentHashMap<>();
+
+    /**
+     * Locales currently being downloaded or loaded, so multiple sessions with the same locale only load it once
+     */
+    private static final Map<String, CompletableFuture<Void>> LOADING_LOCALES = new ConcurrentHashMap<>();
 
     private static final Map<String, Asset> ASSET_MAP = new HashMap<>();
 
     private static VersionDownload clientJarInfo;
 
-    static {
-        // Create the locales folder
-        File localesFolder = GeyserConnector.getInstance().getBootstrap().getConfigFolder().resolve("locales").toFile();
-        //noinspection ResultOfMethodCallIgnored
-        localesFolder.mkdir();
-
-        // Download the latest asset list and cache it
-        generateAssetCache();
-        downloadAndLoadLocale(LanguageUtils.getDefaultLocale());
-    }
+    private static boolean initialized = false;
 
     /**
      * Fetch the latest versions asset cache from Mojang so we can grab the locale files later
@@ -105,6 +113,52 @@ public class LocaleUtils {
         }
     }
 
+    /**
+     * Downloads a locale from Mojang if its not already loaded, without blocking the calling thread.
+     * Until the locale is loaded, translations fall back to the default locale.
+     *
+     * @param locale Locale to download and load
+     * @return a future completed once the locale has been loaded or failed to load
+     */
+    public static CompletableFuture<Void> downloadAndLoadLocaleAsync(String locale) {
+        String lowercaseLocale = locale.toLowerCase();
+        if (LOCALE_MAPPINGS.containsKey(lowercaseLocale)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return LOADING_LOCALES.computeIfAbsent(lowercaseLocale, key -> CompletableFuture.runAsync(() -> {
+            try {
+                downloadAndLoadLocale(key);
+            } finally {
+                LOADING_LOCALES.remove(key);
+            }
+        }, GeyserConnector.getInstance().getGeneralThreadPool()));
+    }
+
+    /**
+     * @param locale the locale to check
+     * @return true if the locale has been loaded into memory
+     */
+    public static boolean isLocaleLoaded(String locale) {
+        return LOCALE_MAPPINGS.containsKey(locale.toLowerCase());
+    }
+
+    /**
+     * Get the locale translations are actually taken from. Until a locale is loaded, this is the default locale.
+     * Caches of translated text should be keyed by this, so text translated with the fallback locale is never
+     * returned once the player's own locale has loaded.
+     *
+     * @param locale the locale requested
+     * @return the lowercase locale translations for the requested locale currently come from
+     */
+    public static String getEffectiveLocale(String locale) {
+        String lowercaseLocale = locale.toLowerCase();
+        if (LOCALE_MAPPINGS.containsKey(lowercaseLocale)) {
+            return lowercaseLocale;
+        }
+        return LanguageUtils.getDefaultLocale().toLowerCase();
+    }
+
     /**
      * Downloads a locale from Mojang if its not already loaded
      *
@@ -193,38 +247,30 @@ public class LocaleUtils {
 
         // Load the locale
         if (localeFile.exists()) {
-            // Read the localefile
-            InputStream localeStream;
-            try {
-                localeStream = new FileInputStream(localeFile);
+            String[] translations = new String[Math.max(NEXT_KEY_ID.get(), 16)];
+
+            // Stream the file instead of building a tree of every entry
+            try (JsonParser parser = GeyserConnector.JSON_MAPPER.getFactory().createParser(localeFile)) {
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    throw new IOException("Expected a JSON object");
+                }
+
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    int keyId = KEY_IDS.computeIfAbsent(parser.getCurrentName(), key -> NEXT_KEY_ID.getAndIncrement());
+                    parser.nextToken();
+                    if (keyId >= translations.length) {
+                        translations = Arrays.copyOf(translations, Math.max(keyId + 1, translations.length * 2));
+                    }
+                    translations[keyId] = parser.getValueAsString();
+                }
             } catch (FileNotFoundException e) {
                 throw new AssertionError(LanguageUtils.getLocaleStringLog("geyser.locale.fail.file", locale, e.getMessage()));
-            }
-
-            // Parse the file as json
-            JsonNode localeObj;
-            try {
-                localeObj = GeyserConnector.JSON_MAPPER.readTree(localeStream);
-            } catch (Exception e) {
+            } catch (IOException e) {
                 throw new AssertionError(LanguageUtils.getLocaleStringLog("geyser.locale.fail.json", locale), e);
             }
 
-            // Parse all the locale fields
-            Iterator<Map.Entry<String, JsonNode>> localeIterator = localeObj.fields();
-            Map<String, String> langMap = new HashMap<>();
-            while (localeIterator.hasNext()) {
-                Map.Entry<String, JsonNode> entry = localeIterator.next();
-                langMap.put(entry.getKey(), entry.getValue().asText());
-            }
-
             // Insert the locale into the mappings
-            LOCALE_MAPPINGS.put(locale.toLowerCase(), langMap);
-
-            try {
-                localeStream.close();
-            } catch (IOException e) {
-                throw new AssertionError(LanguageUtils.getLocaleStringLog("geyser.locale.fail.file", locale, e.getMessage()));
-            }
+            LOCALE_MAPPINGS.put(locale.toLowerCase(), translations);
         } else {
             GeyserConnector.getInstance().getLogger().warning(LanguageUtils.getLocaleStringLog("geyser.locale.fail.missing", locale));
         }
@@ -281,7 +327,7 @@ public class LocaleUtils {
      * @return Translated string or the original message if it was not found in the given locale
      */
     public static String getLocaleString(String messageText, String locale) {
-        Map<String, String> localeStrings = LocaleUtils.LOCALE_MAPPINGS.get(locale.toLowerCase());
+        String[] localeStrings = LocaleUtils.LOCALE_MAPPINGS.get(locale.toLowerCase());
         if (localeStrings == null) {
             localeStrings = LocaleUtils.LOCALE_MAPPINGS.get(LanguageUtils.getDefaultLocale());
             if (localeStrings == null) {
@@ -291,7 +337,13 @@ public class LocaleUtils {
             }
         }
 
-        return localeStrings.getOrDefault(messageText, messageText);
+        Integer keyId = KEY_IDS.get(messageText);
+        if (keyId == null || keyId >= localeStrings.length) {
+            return messageText;
+        }
+
+        String translation = localeStrings[keyId];
+        return translation != null ? translation : messageText;
     }
 
     /**
@@ -308,8 +360,20 @@ public class LocaleUtils {
         return result.toString();
     }
 
-    public static void init() {
-        // no-op
+    public static synchronized void init() {
+        if (initialized) {
+            return;
+        }
+        initialized = true;
+
+        // Create the locales folder
+        File localesFolder = GeyserConnector.getInstance().getBootstrap().getConfigFolder().resolve("locales").toFile();
+        //noinspection ResultOfMethodCallIgnored
+        localesFolder.mkdir();
+
+        // Download the latest asset list and cache it
+        generateAssetCache();
+        downloadAndLoadLocale(LanguageUtils.getDefaultLocale());
     }
 }
 
@@ -30,11 +30,15 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.JsonNodeType;
 import com.github.steveice10.mc.auth.service.MsaAuthenticationService;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.nimbusds.jose.JWSObject;
 import com.nukkitx.network.util.Preconditions;
 import com.nukkitx.protocol.bedrock.packet.LoginPacket;
 import com.nukkitx.protocol.bedrock.packet.ServerToClientHandshakePacket;
 import com.nukkitx.protocol.bedrock.util.EncryptionUtils;
+import io.netty.channel.EventLoop;
+import lombok.Value;
 import org.geysermc.common.window.*;
 import org.geysermc.common.window.button.FormButton;
 import org.geysermc.common.window.component.InputComponent;
@@ -53,61 +57,160 @@ import javax.crypto.SecretKey;
 import java.io.IOException;
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
-import java.security.PublicKey;
 import java.security.interfaces.ECPublicKey;
 import java.security.spec.ECGenParameterSpec;
 import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class LoginEncryptionUtils {
     private static final ObjectMapper JSON_MAPPER = new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
 
+    /**
+     * JWTs of login chains that were already verified, mapped to the identity public key they contain.
+     * Players reconnecting send the same Mojang-signed part of their chain, so it doesn't need to be verified again.
+     */
+    private static final Cache<VerifiedJwt, ECPublicKey> VERIFIED_JWTS = CacheBuilder.newBuilder()
+            .maximumSize(1024)
+            .expireAfterWrite(10, TimeUnit.MINUTES)
+            .build();
+
+    /**
+     * Server key pairs generated ahead of time, each used for a single encryption handshake
+     */
+    private static final BlockingQueue<KeyPair> SERVER_KEY_PAIRS = new ArrayBlockingQueue<>(16);
+    /**
+     * The pool is only topped up once it runs this low, so refills happen in bursts instead of after every login
+     */
+    private static final int SERVER_KEY_PAIRS_LOW_WATER_MARK = 4;
+    /**
+     * Generates key pairs in the background, away from the login thread pool so refills never take the place of logins
+     */
+    private static final ExecutorService KEY_PAIR_GENERATOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Geyser Key Pair Generator");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final AtomicBoolean REFILLING_KEY_PAIRS = new AtomicBoolean();
+
+    /**
+     * Time from receiving the login packet until the encryption handshake is sent
+     */
+    private static final LatencyRecorder LOGIN_LATENCY = new LatencyRecorder(512);
+
+    public static LatencyRecorder getLoginLatency() {
+        return LOGIN_LATENCY;
+    }
+
+    /**
+     * Verifies the JWT with the given key
+     *
+     * @param token the serialized JWT
+     * @param signer the key the JWT should be signed with
+     * @return the identity public key of the JWT, or null if it wasn't signed with the key
+     */
+    private static ECPublicKey verifyJwt(String token, ECPublicKey signer) throws Exception {
+        VerifiedJwt verifiedJwt = new VerifiedJwt(token, signer);
+        ECPublicKey identityPublicKey = VERIFIED_JWTS.getIfPresent(verifiedJwt);
+        if (identityPublicKey != null) {
+            return identityPublicKey;
+        }
+
+        JWSObject jwt = JWSObject.parse(token);
+        if (!EncryptionUtils.verifyJwt(jwt, signer)) {
+            return null;
+        }
+        identityPublicKey = getIdentityPublicKey(jwt);
+        VERIFIED_JWTS.put(verifiedJwt, identityPublicKey);
+        return identityPublicKey;
+    }
+
+    private static ECPublicKey getIdentityPublicKey(JWSObject jwt) throws Exception {
+        JsonNode payloadNode = JSON_MAPPER.readTree(jwt.getPayload().toString());
+        JsonNode ipkNode = payloadNode.get("identityPublicKey");
+        Preconditions.checkState(ipkNode != null && ipkNode.getNodeType() == JsonNodeType.STRING, "identityPublicKey node is missing in chain");
+        return EncryptionUtils.generateKey(ipkNode.asText());
+    }
+
     private static boolean validateChainData(JsonNode data) throws Exception {
         ECPublicKey lastKey = null;
         boolean validChain = false;
         for (JsonNode node : data) {
-            JWSObject jwt = JWSObject.parse(node.asText());
+            String token = node.asText();
+            ECPublicKey identityPublicKey = null;
 
-            if (!validChain) {
-                validChain = EncryptionUtils.verifyJwt(jwt, EncryptionUtils.getMojangPublicKey());
+            if (lastKey != null) {
+                identityPublicKey = verifyJwt(token, lastKey);
+                if (identityPublicKey == null) return false;
             }
 
-            if (lastKey != null) {
-                 if (!EncryptionUtils.verifyJwt(jwt, lastKey)) return false;
+            if (!validChain) {
+                ECPublicKey mojangSigned = verifyJwt(token, EncryptionUtils.getMojangPublicKey());
+                if (mojangSigned != null) {
+                    validChain = true;
+                    identityPublicKey = mojangSigned;
+                }
             }
 
-            JsonNode payloadNode = JSON_MAPPER.readTree(jwt.getPayload().toString());
-            JsonNode ipkNode = payloadNode.get("identityPublicKey");
-            Preconditions.checkState(ipkNode != null && ipkNode.getNodeType() == JsonNodeType.STRING, "identityPublicKey node is missing in chain");
-            lastKey = EncryptionUtils.generateKey(ipkNode.asText());
+            lastKey = identityPublicKey != null ? identityPublicKey : getIdentityPublicKey(JWSObject.parse(token));
         }
         return validChain;
     }
 
-    public static void encryptPlayerConnection(GeyserConnector connector, GeyserSession session, LoginPacket loginPacket) {
-        JsonNode certData;
+    /**
+     * Verifies the login on the login thread pool, then applies it to the session and starts encryption on the
+     * session's event loop.
+     *
+     * @return a future completed on the session's event loop with true if the login may continue,
+     * or false if the player was disconnected
+     */
+    public static CompletableFuture<Boolean> encryptPlayerConnection(GeyserConnector connector, GeyserSession session, LoginPacket loginPacket) {
+        long startTime = System.nanoTime();
+        EventLoop eventLoop = session.getUpstream().getSession().getEventLoop();
         try {
-            certData = JSON_MAPPER.readTree(loginPacket.getChainData().toByteArray());
-        } catch (IOException ex) {
-            throw new RuntimeException("Certificate JSON can not be read.");
-        }
+            return CompletableFuture.supplyAsync(() -> {
+                JsonNode certData;
+                try {
+                    certData = JSON_MAPPER.readTree(loginPacket.getChainData().toByteArray());
+                } catch (IOException ex) {
+                    throw new RuntimeException("Certificate JSON can not be read.");
+                }
 
-        JsonNode certChainData = certData.get("chain");
-        if (certChainData.getNodeType() != JsonNodeType.ARRAY) {
-            throw new RuntimeException("Certificate data is not valid");
-        }
+                JsonNode certChainData = certData.get("chain");
+                if (certChainData.getNodeType() != JsonNodeType.ARRAY) {
+                    throw new RuntimeException("Certificate data is not valid");
+                }
+
+                return verifyLogin(connector, loginPacket.getSkinData().toString(), certChainData);
+            }, connector.getLoginThreadPool()).handleAsync((login, throwable) -> {
+                if (throwable != null) {
+                    session.disconnect("disconnectionScreen.internalError.cantConnect");
+                    throw throwable instanceof CompletionException ? (CompletionException) throwable : new CompletionException(throwable);
+                }
 
-        encryptConnectionWithCert(connector, session, loginPacket.getSkinData().toString(), certChainData);
+                boolean success = applyLogin(session, login);
+                LOGIN_LATENCY.record(System.nanoTime() - startTime);
+                return success;
+            }, eventLoop);
+        } catch (RejectedExecutionException e) {
+            connector.getLogger().debug("Too many logins at once, disconnecting " + session.getUpstream().getAddress());
+            session.disconnect("disconnectionScreen.serverFull");
+            return CompletableFuture.completedFuture(false);
+        }
     }
 
-    private static void encryptConnectionWithCert(GeyserConnector connector, GeyserSession session, String clientData, JsonNode certChainData) {
+    /**
+     * Does the expensive part of a login - verifying the chain and preparing the encryption handshake - without
+     * touching the session.
+     */
+    private static VerifiedLogin verifyLogin(GeyserConnector connector, String clientData, JsonNode certChainData) {
         try {
             boolean validChain = validateChainData(certChainData);
 
             connector.getLogger().debug(String.format("Is player data valid? %s", validChain));
 
-            if (!validChain && !session.getConnector().getConfig().isEnableProxyConnections()) {
-                session.disconnect(LanguageUtils.getLocaleStringLog("geyser.network.remote.invalid_xbox_account"));
-                return;
+            if (!validChain && !connector.getConfig().isEnableProxyConnections()) {
+                return VerifiedLogin.disconnect(LanguageUtils.getLocaleStringLog("geyser.network.remote.invalid_xbox_account"));
             }
             JWSObject jwt = JWSObject.parse(certChainData.get(certChainData.size() - 1).asText());
             JsonNode payload = JSON_MAPPER.readTree(jwt.getPayload().toBytes());
@@ -117,11 +220,11 @@ public class LoginEncryptionUtils {
             }
 
             JsonNode extraData = payload.get("extraData");
-            session.setAuthenticationData(new AuthData(
+            AuthData authData = new AuthData(
                     extraData.get("displayName").asText(),
                     UUID.fromString(extraData.get("identity").asText()),
                     extraData.get("XUID").asText()
-            ));
+            );
 
             if (payload.get("identityPublicKey").getNodeType() != JsonNodeType.STRING) {
                 throw new RuntimeException("Identity Public Key was not found!");
@@ -131,29 +234,103 @@ public class LoginEncryptionUtils {
             JWSObject clientJwt = JWSObject.parse(clientData);
             EncryptionUtils.verifyJwt(clientJwt, identityPublicKey);
 
-            session.setClientData(JSON_MAPPER.convertValue(JSON_MAPPER.readTree(clientJwt.getPayload().toBytes()), BedrockClientData.class));
+            BedrockClientData bedrockClientData = JSON_MAPPER.convertValue(JSON_MAPPER.readTree(clientJwt.getPayload().toBytes()), BedrockClientData.class);
 
+            SecretKey encryptionKey = null;
+            String handshakeJwt = null;
             if (EncryptionUtils.canUseEncryption()) {
-                LoginEncryptionUtils.startEncryptionHandshake(session, identityPublicKey);
+                KeyPair serverKeyPair = takeServerKeyPair();
+                byte[] token = EncryptionUtils.generateRandomToken();
+                encryptionKey = EncryptionUtils.getSecretKey(serverKeyPair.getPrivate(), identityPublicKey, token);
+                handshakeJwt = EncryptionUtils.createHandshakeJwt(serverKeyPair, token).serialize();
             }
+            return new VerifiedLogin(null, authData, bedrockClientData, encryptionKey, handshakeJwt);
         } catch (Exception ex) {
-            session.disconnect("disconnectionScreen.internalError.cantConnect");
             throw new RuntimeException("Unable to complete login", ex);
         }
     }
 
-    private static void startEncryptionHandshake(GeyserSession session, PublicKey key) throws Exception {
+    /**
+     * Applies a verified login to the session and starts the encryption handshake. Runs on the session's event loop.
+     *
+     * @return true if the login may continue
+     */
+    private static boolean applyLogin(GeyserSession session, VerifiedLogin login) {
+        if (login.getDisconnectReason() != null) {
+            session.disconnect(login.getDisconnectReason());
+            return false;
+        }
+
+        session.setAuthenticationData(login.getAuthData());
+        session.setClientData(login.getClientData());
+
+        if (login.getEncryptionKey() != null) {
+            session.getUpstream().getSession().enableEncryption(login.getEncryptionKey());
+
+            ServerToClientHandshakePacket packet = new ServerToClientHandshakePacket();
+            packet.setJwt(login.getHandshakeJwt());
+            session.sendUpstreamPacketImmediately(packet);
+        }
+        return true;
+    }
+
+    /**
+     * @return a server key pair that hasn't been used yet, taken from the pool if one is ready
+     */
+    private static KeyPair takeServerKeyPair() throws Exception {
+        KeyPair keyPair = SERVER_KEY_PAIRS.poll();
+        if (SERVER_KEY_PAIRS.size() < SERVER_KEY_PAIRS_LOW_WATER_MARK && !REFILLING_KEY_PAIRS.getAndSet(true)) {
+            KEY_PAIR_GENERATOR.execute(LoginEncryptionUtils::fillServerKeyPairs);
+        }
+        return keyPair != null ? keyPair : generateServerKeyPair();
+    }
+
+    private static void fillServerKeyPairs() {
+        try {
+            while (SERVER_KEY_PAIRS.remainingCapacity() > 0) {
+                if (!SERVER_KEY_PAIRS.offer(generateServerKeyPair())) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            GeyserConnector.getInstance().getLogger().debug("Unable to generate server key pair: " + e.getMessage());
+        } finally {
+            REFILLING_KEY_PAIRS.set(false);
+        }
+    }
+
+    private static KeyPair generateServerKeyPair() throws Exception {
         KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
         generator.initialize(new ECGenParameterSpec("secp384r1"));
-        KeyPair serverKeyPair = generator.generateKeyPair();
+        return generator.generateKeyPair();
+    }
 
-        byte[] token = EncryptionUtils.generateRandomToken();
-        SecretKey encryptionKey = EncryptionUtils.getSecretKey(serverKeyPair.getPrivate(), key, token);
-        session.getUpstream().getSession().enableEncryption(encryptionKey);
+    @Value
+    private static class VerifiedJwt {
+        String token;
+        ECPublicKey signer;
+    }
 
-        ServerToClientHandshakePacket packet = new ServerToClientHandshakePacket();
-        packet.setJwt(EncryptionUtils.createHandshakeJwt(serverKeyPair, token).serialize());
-        session.sendUpstreamPacketImmediately(packet);
+    /**
+     * The result of {@link #verifyLogin(GeyserConnector, String, JsonNode)}
+     */
+    @Value
+    private static class VerifiedLogin {
+        /**
+         * If not null, the player is disconnected with this reason and nothing else is set
+         */
+        String disconnectReason;
+        AuthData authData;
+        BedrockClientData clientData;
+        /**
+         * Null if encryption is not used
+         */
+        SecretKey encryptionKey;
+        String handshakeJwt;
+
+        static VerifiedLogin disconnect(String reason) {
+            return new VerifiedLogin(reason, null, null, null, null);
+        }
     }
 
     private static final int AUTH_OFFLINE_FORM_ID = 1333;
@@ -265,6 +265,17 @@ public enum MapColor {
 
     private static final MapColor[] VALUES = values();
 
+    /**
+     * Every possible Java map color byte mapped to its ABGR color, so converting a map image is a single array lookup per pixel.
+     */
+    private static final int[] ABGR_LOOKUP = new int[256];
+
+    static {
+        for (int i = 0; i < ABGR_LOOKUP.length; i++) {
+            ABGR_LOOKUP[i] = fromId(i).toABGR();
+        }
+    }
+
     private final int red;
     private final int green;
     private final int blue;
@@ -279,6 +290,14 @@ public enum MapColor {
         return id >= 0 && id < VALUES.length ? VALUES[id] : COLOR_0;
     }
 
+    /**
+     * @param colorId the Java map color byte
+     * @return the ABGR color Bedrock expects for this color byte
+     */
+    public static int toABGR(byte colorId) {
+        return ABGR_LOOKUP[colorId & 0xFF];
+    }
+
     public int toABGR() {
         int alpha = 255;
         if (red == -1 && green == -1 && blue == -1)
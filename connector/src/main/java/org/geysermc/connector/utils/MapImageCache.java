@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2019-2021 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.connector.utils;
+
+import com.github.steveice10.mc.protocol.data.game.world.map.MapData;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.Getter;
+import lombok.Value;
+import org.geysermc.connector.network.remote.RemoteServer;
+
+import java.util.Arrays;
+
+/**
+ * Stores converted map images once for every session on the server.
+ * Map art servers show the same maps to hundreds of players, so images are deduplicated by their Java colors
+ * and only converted to ABGR the first time they are seen.
+ */
+public class MapImageCache {
+
+    /**
+     * The width and height of a full map image
+     */
+    public static final int MAP_SIZE = 128;
+
+    /**
+     * The maximum amount of bytes of color data to keep in the cache
+     */
+    private static final long MAXIMUM_BYTES = 64L * 1024 * 1024;
+
+    private static final Cache<MapImageKey, MapImage> IMAGES = CacheBuilder.newBuilder()
+            .maximumWeight(MAXIMUM_BYTES)
+            .weigher((MapImageKey key, MapImage image) -> image.getColors().length * Integer.BYTES + image.javaColors.length)
+            .build();
+
+    /**
+     * Return the shared, converted copy of a full Java map image, converting it only if no session has seen it yet.
+     *
+     * @param server the server the map was received from
+     * @param mapId the Java map ID
+     * @param data the full map data
+     * @return a shared map image that must not be modified
+     */
+    public static MapImage getFullImage(RemoteServer server, long mapId, MapData data) {
+        byte[] javaColors = data.getData();
+        MapImageKey key = new MapImageKey(server, mapId, Arrays.hashCode(javaColors));
+        MapImage cached = IMAGES.getIfPresent(key);
+        if (cached != null && Arrays.equals(cached.javaColors, javaColors)) {
+            return cached;
+        }
+
+        // Either this image is new or its hash collided with another image; the newest one wins
+        int[] colors = new int[javaColors.length];
+        for (int i = 0; i < javaColors.length; i++) {
+            colors[i] = MapColor.toABGR(javaColors[i]);
+        }
+        MapImage image = new MapImage(javaColors, colors);
+        IMAGES.put(key, image);
+        return image;
+    }
+
+    /**
+     * Apply a partial Java map update to a full image in place.
+     *
+     * @param colors the ABGR colors of a full map image owned by the caller - never a shared {@link MapImage}
+     * @param data the partial map data
+     */
+    public static void patch(int[] colors, MapData data) {
+        byte[] javaColors = data.getData();
+        int columns = data.getColumns();
+        int rows = data.getRows();
+        for (int row = 0; row < rows; row++) {
+            int y = data.getY() + row;
+            if (y < 0 || y >= MAP_SIZE) {
+                continue;
+            }
+            for (int column = 0; column < columns; column++) {
+                int x = data.getX() + column;
+                if (x < 0 || x >= MAP_SIZE) {
+                    continue;
+                }
+                colors[y * MAP_SIZE + x] = MapColor.toABGR(javaColors[row * columns + column]);
+            }
+        }
+    }
+
+    /**
+     * The remote server is only created when Geyser (re)starts, so it is compared by identity
+     */
+    @Value
+    private static class MapImageKey {
+        RemoteServer server;
+        long mapId;
+        int contentHash;
+    }
+
+    /**
+     * An immutable, converted 128x128 map image.
+     */
+    public static class MapImage {
+        /**
+         * The Java colors this image was converted from, to tell images with the same hash apart
+         */
+        private final byte[] javaColors;
+        /**
+         * Every int entry is an ABGR color. Shared across sessions - do not modify.
+         */
+        @Getter
+        private final int[] colors;
+
+        private MapImage(byte[] javaColors, int[] colors) {
+            this.javaColors = javaColors;
+            this.colors = colors;
+        }
+    }
+}
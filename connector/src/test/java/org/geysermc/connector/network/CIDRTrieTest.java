@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2019-2021 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.connector.network;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.net.InetAddress;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+public class CIDRTrieTest {
+
+    private static final List<String> RANGES = Arrays.asList(
+            "10.0.0.0/8",
+            "192.168.1.0/24",
+            "172.16.5.4",
+            "203.0.113.128/25",
+            "198.51.100.7/32",
+            "2001:db8::/32",
+            "fe80::1"
+    );
+
+    private final CIDRTrie trie = new CIDRTrie(RANGES);
+
+    @Test
+    public void matches() throws Exception {
+        Assert.assertTrue(trie.matches(InetAddress.getByName("10.255.3.4")));
+        Assert.assertTrue(trie.matches(InetAddress.getByName("192.168.1.200")));
+        Assert.assertTrue(trie.matches(InetAddress.getByName("172.16.5.4")));
+        Assert.assertTrue(trie.matches(InetAddress.getByName("203.0.113.255")));
+        Assert.assertTrue(trie.matches(InetAddress.getByName("198.51.100.7")));
+        Assert.assertTrue(trie.matches(InetAddress.getByName("2001:db8:1234::5")));
+        Assert.assertTrue(trie.matches(InetAddress.getByName("fe80::1")));
+
+        Assert.assertFalse(trie.matches(InetAddress.getByName("11.0.0.1")));
+        Assert.assertFalse(trie.matches(InetAddress.getByName("192.168.2.1")));
+        Assert.assertFalse(trie.matches(InetAddress.getByName("172.16.5.5")));
+        Assert.assertFalse(trie.matches(InetAddress.getByName("203.0.113.127")));
+        Assert.assertFalse(trie.matches(InetAddress.getByName("2001:db9::1")));
+        Assert.assertFalse(trie.matches(InetAddress.getByName("fe80::2")));
+    }
+
+    @Test
+    public void matchesAll() throws Exception {
+        CIDRTrie all = new CIDRTrie(Arrays.asList("0.0.0.0/0", "10.0.0.0/8"));
+        Assert.assertTrue(all.matches(InetAddress.getByName("1.2.3.4")));
+        Assert.assertFalse(all.matches(InetAddress.getByName("::1")));
+    }
+
+    @Test
+    public void matchesLikeCIDRMatcher() throws Exception {
+        CIDRMatcher[] matchers = RANGES.stream().map(CIDRMatcher::new).toArray(CIDRMatcher[]::new);
+
+        Random random = new Random(0);
+        byte[] bytes = new byte[4];
+        for (int i = 0; i < 10000; i++) {
+            random.nextBytes(bytes);
+            // Keep most addresses close to the configured ranges
+            if (i % 2 == 0) {
+                bytes[0] = (byte) (i % 4 == 0 ? 10 : 203);
+            }
+            InetAddress address = InetAddress.getByAddress(bytes);
+
+            boolean expected = Arrays.stream(matchers).anyMatch(matcher -> matcher.matches(address));
+            Assert.assertEquals(address.toString(), expected, trie.matches(address));
+        }
+    }
+}
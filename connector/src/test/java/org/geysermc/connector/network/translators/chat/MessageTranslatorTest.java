@@ -74,4 +74,22 @@ public class MessageTranslatorTest {
         Assert.assertEquals("Reset before message is not handled properly", "§r§eGame Selector", MessageTranslator.convertMessageLenient("§r§eGame Selector"));
         Assert.assertEquals("Unimplemented formatting chars not stripped", "Bold Underline", MessageTranslator.convertMessageLenient("§m§nBold Underline"));
     }
+
+    @Test
+    public void toBedrockFormatting() {
+        Assert.assertEquals("Repeated resets are not collapsed", "§r§eGame Selector", MessageTranslator.toBedrockFormatting("§r§r§eGame Selector"));
+        Assert.assertEquals("Trailing resets are not collapsed", "§r§eGame Selector§r", MessageTranslator.toBedrockFormatting("§eGame Selector§r§r"));
+        Assert.assertEquals("Colors do not reset formatting", "§lBold§r§aGreen", MessageTranslator.toBedrockFormatting("§lBold§aGreen"));
+        Assert.assertEquals("Unimplemented formatting chars not stripped", "Bold Underline", MessageTranslator.toBedrockFormatting("§m§nBold Underline"));
+        Assert.assertEquals("Trailing formatting char is not kept", "Text§", MessageTranslator.toBedrockFormatting("Text§"));
+    }
+
+    @Test
+    public void renderedMessageCache() {
+        String message = "{\"text\":\"Cached broadcast\",\"color\":\"gold\"}";
+        String first = MessageTranslator.convertMessage(message, "en_US");
+        Assert.assertEquals("§r§6Cached broadcast", first);
+        // Neither locale is loaded here, so both fall back to the same translations and share the rendered message
+        Assert.assertSame("Rendered message is not shared between locales using the same translations", first, MessageTranslator.convertMessage(message, "de_DE"));
+    }
 }
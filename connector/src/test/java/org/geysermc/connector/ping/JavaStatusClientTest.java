@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2019-2021 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.connector.ping;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import org.geysermc.connector.common.ping.GeyserPingInfo;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.channels.UnresolvedAddressException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+public class JavaStatusClientTest {
+
+    private static final String STATUS = "{\"description\":{\"text\":\"A Minecraft Server\"},"
+            + "\"players\":{\"max\":20,\"online\":3},\"version\":{\"name\":\"Paper 1.16.5\",\"protocol\":754}}";
+
+    private EventLoopGroup group;
+    private ServerSocket server;
+
+    @Before
+    public void setUp() throws Exception {
+        group = new NioEventLoopGroup(1);
+        server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+
+        // A stub Java server that answers a single status request
+        Thread thread = new Thread(() -> {
+            try (Socket socket = server.accept()) {
+                DataInputStream in = new DataInputStream(socket.getInputStream());
+                in.readFully(new byte[readVarInt(in)]); // Handshake
+                in.readFully(new byte[readVarInt(in)]); // Status request
+
+                byte[] json = STATUS.getBytes(StandardCharsets.UTF_8);
+                ByteArrayOutputStream packet = new ByteArrayOutputStream();
+                writeVarInt(packet, 0x00);
+                writeVarInt(packet, json.length);
+                packet.write(json);
+
+                OutputStream out = socket.getOutputStream();
+                writeVarInt(out, packet.size());
+                packet.writeTo(out);
+                out.flush();
+            } catch (IOException ignored) {
+            }
+        });
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.close();
+        group.shutdownGracefully(0, 1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void requestStatus() throws Exception {
+        InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getLocalPort());
+        GeyserPingInfo info = JavaStatusClient.requestStatus(group, address, 5000).get(10, TimeUnit.SECONDS);
+
+        Assert.assertEquals("{\"text\":\"A Minecraft Server\"}", info.getDescription());
+        Assert.assertEquals(3, info.getPlayers().getOnline());
+        Assert.assertEquals(20, info.getPlayers().getMax());
+        Assert.assertEquals("Paper 1.16.5", info.getVersion().getName());
+    }
+
+    @Test(expected = ExecutionException.class)
+    public void requestStatusClosedPort() throws Exception {
+        InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getLocalPort());
+        server.close();
+        JavaStatusClient.requestStatus(group, address, 5000).get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void requestStatusUnresolvedAddress() throws Exception {
+        InetSocketAddress address = InetSocketAddress.createUnresolved("localhost", server.getLocalPort());
+        try {
+            JavaStatusClient.requestStatus(group, address, 5000).get(10, TimeUnit.SECONDS);
+            Assert.fail("An unresolved address must not be connected to");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof UnresolvedAddressException);
+        }
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private static void writeVarInt(OutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+}